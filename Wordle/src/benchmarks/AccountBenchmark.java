@@ -0,0 +1,202 @@
+package benchmarks;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.AccountRepository;
+import model.Credentials;
+import model.MappedAccountStore;
+import model.WordleAccount;
+import model.WordleLeaderBoard;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: AccountBenchmark.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: JMH benchmarks for the account paths at 1k, 100k and 1M users:
+ * building the leader board the LeaderBoardPane shows, reading and writing
+ * the credentials file, both in the CredentialsCodec format and with the Java
+ * serialization of credentials.ser it replaced, and saving one user's
+ * statistics in the MappedAccountStore. The accounts are random but the same
+ * on every run. Files go to a temporary folder that is removed after the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AccountBenchmark {
+
+	@Param({ "1000", "100000", "1000000" })
+	public int users;
+
+	private Path folder;
+	private Path snapshot;
+	private Path written;
+	private Path serialized;
+	private HashMap<String, Credentials> credentials;
+	private AccountRepository repository;
+	private MappedAccountStore store;
+	private String[] names;
+	private int next;
+	private WordleAccount account;
+
+	@Setup
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("wordle-bench");
+		snapshot = folder.resolve("credentials.dat");
+		written = folder.resolve("written.dat");
+		serialized = folder.resolve("credentials.ser");
+		credentials = makeAccounts(users, 42);
+
+		account = new WordleAccount();
+		account.writeCredentialsToFile(credentials, snapshot.toString());
+		writeSerialized();
+		repository = new AccountRepository(folder.resolve("accounts.db").toString(), serialized.toString());
+
+		store = new MappedAccountStore(folder.resolve("store.db"));
+		for (Map.Entry<String, Credentials> entry : credentials.entrySet()) {
+			store.put(entry.getKey(), entry.getValue());
+		}
+		names = credentials.keySet().toArray(new String[0]);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		repository.close();
+		store.close();
+		try (Stream<Path> files = Files.walk(folder)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * What opening the leader board costs
+	 *
+	 * @return ArrayList, the top ten
+	 */
+	@Benchmark
+	public ArrayList<String> leaderBoard() {
+		return new WordleLeaderBoard(repository).getFirstTen();
+	}
+
+	/**
+	 * Read the credentials file in the CredentialsCodec format
+	 *
+	 * @return HashMap, the accounts
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public HashMap<String, Credentials> readCredentials() {
+		return account.readCredentialsFromFile(snapshot.toString());
+	}
+
+	/**
+	 * Write the credentials file in the CredentialsCodec format
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void writeCredentials() {
+		account.writeCredentialsToFile(credentials, written.toString());
+	}
+
+	/**
+	 * The Java serialization path credentials.ser was read with
+	 *
+	 * @return HashMap, the accounts
+	 * @throws Exception if the file cannot be read
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@SuppressWarnings("unchecked")
+	public HashMap<String, Credentials> readSerialized() throws Exception {
+		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(serialized.toFile()))) {
+			return (HashMap<String, Credentials>) in.readObject();
+		}
+	}
+
+	/**
+	 * The Java serialization path credentials.ser was written with
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void writeSerialized() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(serialized.toFile()))) {
+			out.writeObject(credentials);
+		}
+	}
+
+	/**
+	 * Save one user after a game, which rewrites that user's slot only
+	 *
+	 * @throws IOException never, the store doesn't grow
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public void storeStats() throws IOException {
+		next = (next + 1) % names.length;
+		String name = names[next];
+		Credentials user = credentials.get(name);
+		user.setNumGamesPlayed(user.getNumGamesPlayed() + 1);
+		store.put(name, user);
+	}
+
+	/**
+	 * Make accounts with random statistics
+	 *
+	 * @param count, the number of accounts
+	 * @param seed, the random seed
+	 * @return HashMap, user names to credentials
+	 */
+	static HashMap<String, Credentials> makeAccounts(int count, long seed) {
+		Random random = new Random(seed);
+		LocalDate today = LocalDate.now();
+		HashMap<String, Credentials> accounts = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			Credentials user = new Credentials();
+			user.setPassword("password" + random.nextInt(1000000));
+			user.setLastLoginDate(today.minusDays(random.nextInt(365)));
+			int played = random.nextInt(500);
+			int won = played == 0 ? 0 : random.nextInt(played + 1);
+			user.setNumGamesPlayed(played);
+			user.setNumGamesWon(won);
+			user.setCurrentWinningStreak(random.nextInt(won + 1));
+			user.setMaxWinningStreak(Math.max(user.getCurrentWinningStreak(), random.nextInt(won + 1)));
+			int[] distribution = user.getGuessDistribution();
+			for (int w = 0; w < won; w++) {
+				distribution[random.nextInt(distribution.length)]++;
+			}
+			accounts.put("user" + i, user);
+		}
+		return accounts;
+	}
+}
@@ -0,0 +1,106 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.AccountRepository;
+import model.Credentials;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: ContentionBenchmark.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: JMH benchmark for many players finishing games at once. Every
+ * benchmark thread records games for random users of one shared
+ * AccountRepository. recordGame uses the repository's per-user locks;
+ * recordGameOneLock wraps the same call in one shared lock, the way every
+ * change was made before, to compare against. Run it at several thread
+ * counts to see how throughput scales with cores, for example
+ *
+ *   java -cp "bench:lib/*" benchmarks.ModelBenchmarks Contention -t 1
+ *   java -cp "bench:lib/*" benchmarks.ModelBenchmarks Contention -t 4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ContentionBenchmark {
+
+	@Param({ "10000" })
+	public int users;
+
+	private final Object oneLock = new Object();
+	private Path folder;
+	private AccountRepository repository;
+	private String[] names;
+
+	@Setup
+	public void setUp() throws IOException {
+		folder = Files.createTempDirectory("wordle-bench");
+		repository = new AccountRepository(folder.resolve("accounts.db").toString());
+		names = new String[users];
+		for (int i = 0; i < users; i++) {
+			names[i] = "user" + i;
+			repository.createAccount(names[i], "password");
+		}
+		repository.flush().join();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		repository.close();
+		try (Stream<Path> files = Files.walk(folder)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * One finished game for a random user
+	 */
+	@Benchmark
+	public void recordGame() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		repository.recordGame(names[random.nextInt(names.length)], random.nextInt(3) == 0, random.nextInt(6));
+	}
+
+	/**
+	 * The same as recordGame with every thread taking one lock
+	 */
+	@Benchmark
+	public void recordGameOneLock() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		synchronized (oneLock) {
+			repository.recordGame(names[random.nextInt(names.length)], random.nextInt(3) == 0, random.nextInt(6));
+		}
+	}
+
+	/**
+	 * What a player reads after the game while others are playing
+	 *
+	 * @return Credentials, a random user's statistics
+	 */
+	@Benchmark
+	public Credentials readStats() {
+		return repository.get(names[ThreadLocalRandom.current().nextInt(names.length)]);
+	}
+}
@@ -0,0 +1,129 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Wordle;
+import model.WordleDictionary;
+import model.WordList;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: DictionaryBenchmark.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: JMH benchmarks for the word handling hot paths: loading the word
+ * list, isValidWord, checkAccuracy, getRandomWord and Wordle.makeGuess. The
+ * guesses cycle through a fixed mix of valid words and near misses so branch
+ * prediction can't learn a single input. Run from the folder that holds
+ * valid-wordle-words.txt, see ModelBenchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryBenchmark {
+
+	private static final String WORD_FILE = "valid-wordle-words.txt";
+
+	// power of two so the next guess is a mask, not a division
+	private static final int GUESS_COUNT = 1024;
+
+	private WordleDictionary dictionary;
+	private Wordle game;
+	private String[] guesses;
+	private String[] validGuesses;
+	private int next;
+
+	/**
+	 * Load the words and build the guesses. Every other guess is a word from the
+	 * list with its last letter changed, which is usually not a word.
+	 */
+	@Setup
+	public void setUp() {
+		dictionary = new WordleDictionary();
+		dictionary.initialize();
+		dictionary.setWord();
+		game = new Wordle();
+
+		int words = dictionary.getWordCount();
+		if (words == 0) {
+			throw new IllegalStateException(WORD_FILE + " not found in the working directory");
+		}
+		guesses = new String[GUESS_COUNT];
+		validGuesses = new String[GUESS_COUNT];
+		for (int i = 0; i < GUESS_COUNT; i++) {
+			String word = dictionary.getWord((int) ((long) i * 7919 % words));
+			validGuesses[i] = word;
+			guesses[i] = i % 2 == 0 ? word : word.substring(0, 4) + (char) ('a' + (word.charAt(4) - 'a' + 13) % 26);
+		}
+	}
+
+	/**
+	 * The cold work of the first initialize call: reading and indexing the file
+	 *
+	 * @return WordList, the loaded words
+	 * @throws IOException if the file cannot be read
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public WordList loadWordList() throws IOException {
+		return WordList.load(WORD_FILE);
+	}
+
+	/**
+	 * initialize once the words are loaded, which every new Wordle pays
+	 *
+	 * @return int, the number of words
+	 */
+	@Benchmark
+	public int initialize() {
+		WordleDictionary fresh = new WordleDictionary();
+		fresh.initialize();
+		return fresh.getWordCount();
+	}
+
+	@Benchmark
+	public boolean isValidWord() {
+		return dictionary.isValidWord(guesses[next++ & (GUESS_COUNT - 1)]);
+	}
+
+	@Benchmark
+	public int[] checkAccuracy() {
+		return dictionary.checkAccuracy(validGuesses[next++ & (GUESS_COUNT - 1)]);
+	}
+
+	@Benchmark
+	public String getRandomWord() {
+		return dictionary.getRandomWord();
+	}
+
+	/**
+	 * One guess of a game, starting a new game when the last one ended (every
+	 * six calls at most)
+	 *
+	 * @return int[], the guess status
+	 */
+	@Benchmark
+	public int[] makeGuess() {
+		if (!game.checkGameRunning()) {
+			game.startGame();
+		}
+		return game.makeGuess(validGuesses[next++ & (GUESS_COUNT - 1)]);
+	}
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: ModelBenchmarks.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Runs every JMH benchmark in this package with the GC profiler
+ * on, so every result comes with its allocation rate (the same as -prof gc).
+ * Other JMH options can be passed on the command line, for example a regex to
+ * run only some benchmarks or -p users=1000 to run one size.
+ *
+ * JMH generates code for the benchmarks while they compile, so its annotation
+ * processor has to be on the processor path. From the Wordle folder, with the
+ * jmh-core, jmh-generator-annprocess, jopt-simple and commons-math3 jars in lib:
+ *
+ *   javac -cp "lib/*" -processorpath "lib/*" -d bench src/model/*.java src/model/solver/*.java src/benchmarks/*.java
+ *   java -cp "bench:lib/*" benchmarks.ModelBenchmarks [JMH options]
+ */
+public class ModelBenchmarks {
+
+	/**
+	 * Main method for the benchmarks
+	 *
+	 * @param args, JMH command line options
+	 * @throws RunnerException if a benchmark fails
+	 * @throws CommandLineOptionException if the options can't be parsed
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions options = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import model.WordList;
+import model.Wordle;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: SolverBenchmark.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Measures how long Wordle.suggestNextGuess takes. Plays games where
+ * every guess is the suggested one and prints latency percentiles for the
+ * hint call. The target is under 50 ms per hint on an 8 core machine once the
+ * feedback matrix cache file exists. Run from the folder that holds
+ * valid-wordle-words.txt.
+ * 
+ * Usage: java benchmarks.SolverBenchmark [games]
+ */
+public class SolverBenchmark {
+
+	/**
+	 * Main method for the benchmark
+	 * 
+	 * @param args, optional number of games to play (default 200)
+	 */
+	public static void main(String[] args) {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		Wordle wordleGame = new Wordle();
+		System.out.println("Cores: " + Runtime.getRuntime().availableProcessors() + ", words: "
+				+ wordleGame.getWordList().size() + ", answers: "
+				+ wordleGame.getWordList().getAnswerCount() + ", matrix mapped: "
+				+ wordleGame.getWordList().getFeedbackMatrix().isMapped());
+
+		// the first hint scores the whole list against the whole list
+		long start = System.nanoTime();
+		String opening = wordleGame.suggestNextGuess();
+		System.out.printf("First opening hint: %s in %.1f ms%n", opening, (System.nanoTime() - start) / 1e6);
+
+		long[] latencies = new long[games * Wordle.MAX_GUESSES];
+		int hints = 0;
+		int wins = 0;
+		for (int game = 0; game < games; game++) {
+			wordleGame.startGame();
+			WordList words = wordleGame.getWordList();
+			wordleGame.setWord(words.getWord(ThreadLocalRandom.current().nextInt(words.getAnswerCount())));
+			while (wordleGame.checkGameRunning()) {
+				start = System.nanoTime();
+				String hint = wordleGame.suggestNextGuess();
+				latencies[hints++] = System.nanoTime() - start;
+				wordleGame.makeGuess(hint);
+			}
+			if (wordleGame.checkGameWon()) {
+				wins++;
+			}
+		}
+
+		Arrays.sort(latencies, 0, hints);
+		System.out.printf("Games: %d, won: %d, hints: %d%n", games, wins, hints);
+		System.out.printf("Hint latency ms  p50 %.2f  p90 %.2f  p99 %.2f  max %.2f%n", latencies[hints / 2] / 1e6,
+				latencies[hints * 9 / 10] / 1e6, latencies[hints * 99 / 100] / 1e6, latencies[hints - 1] / 1e6);
+	}
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.WordImage;
+import model.WordList;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: StartupBenchmark.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: JMH benchmark for how long a fresh JVM takes to get the word
+ * lists ready, parsing the text files against reading the WordImage. Every
+ * measurement is the first call in a new JVM, so class loading and the
+ * interpreter are part of it, as they are when the GUI or server starts. Run
+ * from the folder that holds the word lists, see ModelBenchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+	private static final String ANSWER_FILE = "wordle-answers.txt";
+	private static final String WORD_FILE = "valid-wordle-words.txt";
+	private static final String IMAGE_FILE = "wordlist.bin";
+
+	/**
+	 * Make sure the image exists. Only the very first fork has to write it.
+	 *
+	 * @throws IOException if the word lists can't be read
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		if (!Files.exists(Paths.get(IMAGE_FILE))) {
+			WordList.open(ANSWER_FILE, WORD_FILE, IMAGE_FILE);
+		}
+	}
+
+	/**
+	 * What every start cost before the image: reading and indexing the files
+	 *
+	 * @return WordList, the loaded words
+	 * @throws IOException if the files cannot be read
+	 */
+	@Benchmark
+	public WordList parseText() throws IOException {
+		return WordList.load(ANSWER_FILE, WORD_FILE);
+	}
+
+	/**
+	 * What WordleDictionary.initialize does now: check the files and read the
+	 * image
+	 *
+	 * @return WordList, the loaded words
+	 * @throws IOException if the image cannot be read
+	 */
+	@Benchmark
+	public WordList openImage() throws IOException {
+		return WordImage.read(Paths.get(IMAGE_FILE), WordImage.stamp(ANSWER_FILE, WORD_FILE));
+	}
+}
@@ -0,0 +1,472 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: AccountRepository.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Process wide store of every account. The accounts are loaded once
+ * into a concurrent map that all reads are served from, and every change goes through this class so there is a single place
+ * that writes to disk. WordleAccount objects are handles for one user on top
+ * of the repository.
+ *
+ * The accounts are stored in accounts.db, one fixed size slot per account
+ * (see MappedAccountStore), so saving a user only writes that user's slot.
+ * That is a fixed size write however many accounts there are, and a slot
+ * keeps its last good copy until the new one is complete, so a crash loses at
+ * most the latest change and there is no log to replay or compact on startup.
+ * The first run without accounts.db imports the accounts kept by earlier
+ * versions in credentials.ser, which is left as it is. The imported store is
+ * written next to accounts.db and moved into place once it is complete and
+ * synced, so if credentials.ser can't be read or the program stops halfway,
+ * there is no accounts.db and the import is tried again on the next start.
+ *
+ * The repository also keeps the users ranked by wins in a RankingTree that is
+ * updated with every change, so the leaderboard never has to sort.
+ *
+ * Changes are written behind: a change updates memory and marks the user
+ * dirty, and a single background thread saves the dirty users
+ * WRITE_DELAY_MILLIS later and syncs the store once for the whole batch. Any
+ * number of changes to a user before the save become one save of the latest
+ * state. Callers, including the JavaFX thread, never wait for the disk; flush
+ * waits for everything changed so far, and close flushes before the program
+ * exits.
+ *
+ * Changes to different users don't wait for each other. Each user is guarded
+ * by one of STRIPES locks picked by the hash of the name, so two games
+ * finishing at once for different users almost always take different locks,
+ * while two changes to the same user (one player on two devices) are made one
+ * after the other and neither is lost. The dirty set is concurrent, so
+ * marking a user takes no shared lock either. get returns a copy made under
+ * the user's lock, so a reader never sees half of a change.
+ */
+public class AccountRepository {
+
+	/**
+	 * Longest name and password of a new account, in characters
+	 */
+	public static final int MAX_NAME_LENGTH = 32;
+	public static final int MAX_PASSWORD_LENGTH = 32;
+
+	private final static String FILENAME = "accounts.db";
+	private final static String LEGACY_FILENAME = "credentials.ser";
+	private final static long WRITE_DELAY_MILLIS = 100;
+	private final static int STRIPES = 64;
+
+	/**
+	 * The repository for the working directory files, created on first use
+	 */
+	private static AccountRepository instance;
+
+	private final ConcurrentHashMap<String, Credentials> accounts = new ConcurrentHashMap<>();
+	private final RankingTree ranking = new RankingTree();
+
+	/**
+	 * Locks for changes to users, see stripeFor
+	 */
+	private final Object[] stripes = new Object[STRIPES];
+
+	/**
+	 * Only used by the writer thread, null when the store can't be opened or
+	 * after close
+	 */
+	private MappedAccountStore store;
+
+	/**
+	 * Users changed since the writer thread last saved
+	 */
+	private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean writeScheduled = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(task -> {
+		Thread thread = new Thread(task, "account-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Constructor for AccountRepository. Loads every account in the store.
+	 *
+	 * @param storeFile, the file name of the store
+	 */
+	public AccountRepository(String storeFile) {
+		this(storeFile, null);
+	}
+
+	/**
+	 * Constructor for AccountRepository that imports the accounts of earlier
+	 * versions when the store doesn't exist yet
+	 *
+	 * @param storeFile, the file name of the store
+	 * @param legacyFile, the file name of the Java serialized credentials, or
+	 *                    null
+	 */
+	public AccountRepository(String storeFile, String legacyFile) {
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new Object();
+		}
+		Path storePath = Paths.get(storeFile);
+		HashMap<String, Credentials> loaded = new HashMap<>();
+		HashMap<String, Credentials> imported = null;
+		try {
+			if (!Files.exists(storePath) && legacyFile != null && Files.exists(Paths.get(legacyFile))) {
+				// throws before the store is created if the old file can't be read
+				imported = CredentialsCodec.readSerialized(Paths.get(legacyFile));
+				importAccounts(storePath, imported);
+			}
+			store = new MappedAccountStore(storePath);
+			loaded = store.getLoadedAccounts();
+		} catch (IOException | IllegalArgumentException e) {
+			// keep serving what could be read from memory; changes will not be
+			// saved, and a failed import is tried again on the next start
+			e.printStackTrace();
+			store = null;
+			if (imported != null) {
+				loaded = imported;
+			}
+		}
+		accounts.putAll(loaded);
+		loaded.forEach((name, user) -> ranking.update(name, user.getNumGamesWon()));
+	}
+
+	/**
+	 * Get the repository for accounts.db in the working directory. Changes are
+	 * saved and the store closed when the program exits.
+	 *
+	 * @return AccountRepository, the shared repository
+	 */
+	public static synchronized AccountRepository getInstance() {
+		if (instance == null) {
+			instance = new AccountRepository(FILENAME, LEGACY_FILENAME);
+			Runtime.getRuntime().addShutdownHook(new Thread(instance::close));
+		}
+		return instance;
+	}
+
+	/**
+	 * Get a snapshot of the credentials of a user. The copy is made under the
+	 * user's lock, so its statistics all come from the same moment; changing
+	 * it changes nothing in the repository.
+	 *
+	 * @param name, the user name
+	 * @return Credentials, a copy of the credentials or null if there is no such
+	 *         user
+	 */
+	public Credentials get(String name) {
+		if (name == null) {
+			return null;
+		}
+		synchronized (stripeFor(name)) {
+			Credentials user = accounts.get(name);
+			return user == null ? null : copyOf(user);
+		}
+	}
+
+	/**
+	 * Get every account. The map is a read only view that follows changes, so
+	 * use get for statistics that have to be read together.
+	 *
+	 * @return Map, user names to credentials
+	 */
+	public Map<String, Credentials> getAllUsers() {
+		return Collections.unmodifiableMap(accounts);
+	}
+
+	/**
+	 * Get the users ranked by wins, kept up to date by the repository
+	 *
+	 * @return RankingTree, the ranking
+	 */
+	public RankingTree getRanking() {
+		return ranking;
+	}
+
+	/**
+	 * Create an account
+	 *
+	 * @param name, the user name
+	 * @param password, the password
+	 * @return boolean, true if created, false if the name is taken or the name
+	 *         or password is too long, see isValidAccount
+	 */
+	public boolean createAccount(String name, String password) {
+		if (!isValidAccount(name, password)) {
+			return false;
+		}
+		Credentials user = new Credentials();
+		user.setPassword(password);
+		user.setLastLoginDate(null);
+		user.setNumGamesPlayed(0);
+		synchronized (stripeFor(name)) {
+			if (accounts.putIfAbsent(name, user) != null) {
+				return false;
+			}
+			ranking.update(name, 0);
+		}
+		markDirty(name);
+		return true;
+	}
+
+	/**
+	 * Check a name and password are short enough for a new account. Accounts
+	 * imported from credentials.ser are kept whatever their length.
+	 *
+	 * @param name, the user name
+	 * @param password, the password
+	 * @return boolean, true if neither is longer than MAX_NAME_LENGTH and
+	 *         MAX_PASSWORD_LENGTH characters
+	 */
+	public static boolean isValidAccount(String name, String password) {
+		return name.length() <= MAX_NAME_LENGTH && password.length() <= MAX_PASSWORD_LENGTH;
+	}
+
+	/**
+	 * Check a user name and password
+	 *
+	 * @param name, the user name
+	 * @param password, the password
+	 * @return boolean, true if the user exists and the password matches
+	 */
+	public boolean authenticate(String name, String password) {
+		// passwords never change, so no copy is needed
+		Credentials user = name == null ? null : accounts.get(name);
+		return user != null && user.getPassword().equals(password);
+	}
+
+	/**
+	 * Record a login
+	 *
+	 * @param name, the user name
+	 * @param date, the login date
+	 */
+	public void recordLogin(String name, LocalDate date) {
+		synchronized (stripeFor(name)) {
+			Credentials user = accounts.get(name);
+			if (user == null) {
+				return;
+			}
+			user.setLastLoginDate(date);
+		}
+		markDirty(name);
+	}
+
+	/**
+	 * Record a finished game
+	 *
+	 * @param name, the user name
+	 * @param isGameWon, boolean true when game is won, false otherwise
+	 * @param guess, integer for number of guesses made
+	 */
+	public void recordGame(String name, boolean isGameWon, int guess) {
+		updateStats(name, user -> user.updateStats(isGameWon, guess));
+	}
+
+	/**
+	 * Change the statistics of a user and save them
+	 *
+	 * @param name, the user name
+	 * @param change, the change to make to the user's credentials
+	 */
+	public void updateStats(String name, Consumer<Credentials> change) {
+		synchronized (stripeFor(name)) {
+			Credentials user = accounts.get(name);
+			if (user == null) {
+				return;
+			}
+			int won = user.getNumGamesWon();
+			change.accept(user);
+			// a loss doesn't move the user in the ranking
+			if (user.getNumGamesWon() != won) {
+				ranking.update(name, user.getNumGamesWon());
+			}
+		}
+		markDirty(name);
+	}
+
+	/**
+	 * Remove an account
+	 *
+	 * @param name, the user name
+	 */
+	public void deleteAccount(String name) {
+		synchronized (stripeFor(name)) {
+			if (accounts.remove(name) == null) {
+				return;
+			}
+			ranking.remove(name);
+		}
+		markDirty(name);
+	}
+
+	/**
+	 * Save every change made so far and sync the store, on the writer thread
+	 *
+	 * @return CompletableFuture, completes once the changes are on disk
+	 */
+	public CompletableFuture<Void> flush() {
+		try {
+			return CompletableFuture.runAsync(this::writePending, writer);
+		} catch (RejectedExecutionException e) {
+			// closed, everything was written by close
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	/**
+	 * Save the changes and close the store. Changes after this are kept in
+	 * memory only.
+	 */
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		flush().join();
+		writer.shutdown();
+		try {
+			writer.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (store != null) {
+			try {
+				store.close();
+			} catch (IOException e) {
+				// nothing more can be saved
+			}
+			store = null;
+		}
+	}
+
+	/**
+	 * Helper method to write the accounts of earlier versions to a new store,
+	 * with records big enough for the longest of them. The store only appears
+	 * at storePath once it is complete.
+	 *
+	 * @param storePath, the Path of the store, which doesn't exist yet
+	 * @param imported, the accounts to store
+	 * @throws IOException if the store cannot be written
+	 */
+	private static void importAccounts(Path storePath, HashMap<String, Credentials> imported) throws IOException {
+		int recordSize = MappedAccountStore.DEFAULT_RECORD_SIZE;
+		for (Map.Entry<String, Credentials> entry : imported.entrySet()) {
+			recordSize = Math.max(recordSize,
+					MappedAccountStore.recordSizeFor(entry.getKey(), entry.getValue().getPassword()));
+		}
+		Path absolute = storePath.toAbsolutePath();
+		// a file left by an import that stopped halfway is overwritten
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		try {
+			MappedAccountStore.write(temp, imported, recordSize);
+			Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Helper method to find the lock for a user
+	 *
+	 * @param name, the user name
+	 * @return Object, the lock guarding changes to the user
+	 */
+	private Object stripeFor(String name) {
+		int hash = name.hashCode();
+		// spread the high bits so names that differ at the end still spread out
+		return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+	}
+
+	/**
+	 * Helper method to mark a user to be saved and start the writer if it is
+	 * not already going to run
+	 *
+	 * @param name, the user name
+	 */
+	private void markDirty(String name) {
+		if (closed.get() || store == null) {
+			return;
+		}
+		dirty.add(name);
+		if (writeScheduled.compareAndSet(false, true)) {
+			try {
+				writer.schedule(this::writePending, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				// closed in the meantime, close wrote everything
+			}
+		}
+	}
+
+	/**
+	 * Helper method run on the writer thread to save every dirty user and sync
+	 * the store once. A user that no longer exists is deleted from the store.
+	 * Each user's lock is only held to copy them. A user changed again after
+	 * being taken from the dirty set is marked again and saved by the next run.
+	 */
+	private void writePending() {
+		if (store == null) {
+			return;
+		}
+		writeScheduled.set(false);
+		ArrayList<String> names = new ArrayList<>();
+		ArrayList<Credentials> states = new ArrayList<>();
+		for (String name : dirty) {
+			dirty.remove(name);
+			synchronized (stripeFor(name)) {
+				Credentials user = accounts.get(name);
+				names.add(name);
+				states.add(user == null ? null : copyOf(user));
+			}
+		}
+		for (int i = 0; i < names.size(); i++) {
+			try {
+				if (states.get(i) == null) {
+					store.delete(names.get(i));
+				} else {
+					store.put(names.get(i), states.get(i));
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		store.sync();
+	}
+
+	/**
+	 * Helper method to copy credentials so they can be read or written while
+	 * the user keeps playing
+	 *
+	 * @param user, the credentials to copy
+	 * @return Credentials, the copy
+	 */
+	private static Credentials copyOf(Credentials user) {
+		Credentials copy = new Credentials();
+		copy.setPassword(user.getPassword());
+		copy.setLastLoginDate(user.getLastLoginDate());
+		copy.setNumGamesPlayed(user.getNumGamesPlayed());
+		copy.setNumGamesWon(user.getNumGamesWon());
+		copy.setCurrentWinningStreak(user.getCurrentWinningStreak());
+		copy.setMaxWinningStreak(user.getMaxWinningStreak());
+		System.arraycopy(user.getGuessDistribution(), 0, copy.getGuessDistribution(), 0,
+				copy.getGuessDistribution().length);
+		return copy;
+	}
+}
@@ -0,0 +1,112 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: CandidateMasks.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Precomputed bitsets over a word list used by CandidateTracker. Bit
+ * i of a mask stands for word i. There is one mask per letter and position
+ * (the words with that letter there) and one per letter and count (the words
+ * with at least that many of the letter), so narrowing the candidates after a
+ * guess is a few AND/ANDNOT passes over longs instead of comparing strings.
+ */
+public final class CandidateMasks {
+
+	private final int wordCount;
+	private final int wordsInLastLong;
+
+	/**
+	 * positionMasks[position * 26 + letter], words with letter at position
+	 */
+	private final long[][] positionMasks;
+
+	/**
+	 * countMasks[letter * 6 + count], words with at least count of letter
+	 */
+	private final long[][] countMasks;
+
+	/**
+	 * Build the masks for a word list
+	 * 
+	 * @param packedWords, the packed words, bit i of every mask is word i
+	 */
+	public CandidateMasks(int[] packedWords) {
+		wordCount = packedWords.length;
+		wordsInLastLong = wordCount % 64;
+		int longs = (wordCount + 63) >>> 6;
+		positionMasks = new long[PackedWord.WORD_LENGTH * PackedWord.ALPHABET_SIZE][longs];
+		countMasks = new long[PackedWord.ALPHABET_SIZE * (PackedWord.WORD_LENGTH + 1)][longs];
+
+		int[] letterCounts = new int[PackedWord.ALPHABET_SIZE];
+		for (int word = 0; word < wordCount; word++) {
+			long bit = 1L << word;
+			int slot = word >>> 6;
+			for (int position = 0; position < PackedWord.WORD_LENGTH; position++) {
+				int letter = PackedWord.letterAt(packedWords[word], position);
+				positionMasks[position * PackedWord.ALPHABET_SIZE + letter][slot] |= bit;
+				letterCounts[letter]++;
+			}
+			for (int letter = 0; letter < PackedWord.ALPHABET_SIZE; letter++) {
+				for (int count = 0; count <= letterCounts[letter]; count++) {
+					countMasks[letter * (PackedWord.WORD_LENGTH + 1) + count][slot] |= bit;
+				}
+				letterCounts[letter] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Get the number of words covered by the masks
+	 * 
+	 * @return int, the number of words
+	 */
+	public int getWordCount() {
+		return wordCount;
+	}
+
+	/**
+	 * Get the number of longs in each mask
+	 * 
+	 * @return int, the mask length
+	 */
+	public int getMaskLength() {
+		return (wordCount + 63) >>> 6;
+	}
+
+	/**
+	 * Get the words that have a letter at a position. Do not modify the array.
+	 * 
+	 * @param position, the position (0-4)
+	 * @param letter, the letter index (a = 0)
+	 * @return long[], the bitset of matching words
+	 */
+	long[] atPosition(int position, int letter) {
+		return positionMasks[position * PackedWord.ALPHABET_SIZE + letter];
+	}
+
+	/**
+	 * Get the words that contain a letter at least count times. Do not modify the
+	 * array.
+	 * 
+	 * @param letter, the letter index (a = 0)
+	 * @param count, the minimum number of times (0-5)
+	 * @return long[], the bitset of matching words
+	 */
+	long[] withAtLeast(int letter, int count) {
+		return countMasks[letter * (PackedWord.WORD_LENGTH + 1) + count];
+	}
+
+	/**
+	 * Fill a bitset with every word
+	 * 
+	 * @param bits, the bitset to fill, getMaskLength() longs
+	 */
+	void fillAll(long[] bits) {
+		Arrays.fill(bits, -1L);
+		if (wordsInLastLong != 0) {
+			bits[bits.length - 1] = (1L << wordsInLastLong) - 1;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: CandidateTracker.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Keeps track of the answers that are still possible in a game. The
+ * candidates are a long[] bitset over the dictionary and every guess narrows
+ * it with the masks from CandidateMasks. The remaining count is kept up to
+ * date so the GUI, hard mode checks and the solver can read it without going
+ * over the word list.
+ */
+public class CandidateTracker {
+
+	private final CandidateMasks masks;
+
+	/**
+	 * Bit i is set while word i can still be the answer
+	 */
+	private final long[] bits;
+
+	/**
+	 * Number of set bits
+	 */
+	private int remaining;
+
+	/**
+	 * Guesses and patterns applied so far, used by isConsistent
+	 */
+	private int[] guesses = new int[Wordle.MAX_GUESSES];
+	private int[] patterns = new int[Wordle.MAX_GUESSES];
+	private int guessCount;
+
+	/**
+	 * Constructor for CandidateTracker, starts with every word as a candidate
+	 * 
+	 * @param masks, the masks for the dictionary
+	 */
+	public CandidateTracker(CandidateMasks masks) {
+		this.masks = masks;
+		this.bits = new long[masks.getMaskLength()];
+		reset();
+	}
+
+	/**
+	 * Make every word a candidate again, for a new game
+	 */
+	public void reset() {
+		masks.fillAll(bits);
+		remaining = masks.getWordCount();
+		guessCount = 0;
+	}
+
+	/**
+	 * Remove the words that would not give this pattern for the guess
+	 * 
+	 * @param packedGuess, the packed guess
+	 * @param pattern, the pattern from Feedback.score
+	 * @return int, the number of candidates left
+	 */
+	public int narrow(int packedGuess, int pattern) {
+		for (int position = 0; position < PackedWord.WORD_LENGTH; position++) {
+			long[] mask = masks.atPosition(position, PackedWord.letterAt(packedGuess, position));
+			if (Feedback.digitAt(pattern, position) == Feedback.CORRECT) {
+				and(mask);
+			} else {
+				andNot(mask);
+			}
+		}
+
+		// every green or yellow copy of a letter is one the answer has; a gray
+		// copy means the answer has no more than that
+		for (int position = 0; position < PackedWord.WORD_LENGTH; position++) {
+			int letter = PackedWord.letterAt(packedGuess, position);
+			if (seenBefore(packedGuess, letter, position)) {
+				continue;
+			}
+			int found = 0;
+			boolean capped = false;
+			for (int other = position; other < PackedWord.WORD_LENGTH; other++) {
+				if (PackedWord.letterAt(packedGuess, other) == letter) {
+					if (Feedback.digitAt(pattern, other) == Feedback.ABSENT) {
+						capped = true;
+					} else {
+						found++;
+					}
+				}
+			}
+			if (found > 0) {
+				and(masks.withAtLeast(letter, found));
+			}
+			if (capped) {
+				andNot(masks.withAtLeast(letter, found + 1));
+			}
+		}
+
+		remaining = 0;
+		for (long word : bits) {
+			remaining += Long.bitCount(word);
+		}
+		record(packedGuess, pattern);
+		return remaining;
+	}
+
+	/**
+	 * Get the number of candidates left
+	 * 
+	 * @return int, the number of candidates
+	 */
+	public int getRemainingCount() {
+		return remaining;
+	}
+
+	/**
+	 * Check if a word is still a candidate
+	 * 
+	 * @param index, the dictionary index of the word
+	 * @return boolean, true if the word can still be the answer
+	 */
+	public boolean isCandidate(int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Find the next candidate at or after an index, for iterating:
+	 * for (int i = tracker.nextCandidate(0); i >= 0; i = tracker.nextCandidate(i + 1))
+	 * 
+	 * @param fromIndex, the dictionary index to start at
+	 * @return int, the dictionary index of the candidate or -1 if there is none
+	 */
+	public int nextCandidate(int fromIndex) {
+		int slot = fromIndex >>> 6;
+		if (slot >= bits.length) {
+			return -1;
+		}
+		long word = bits[slot] & (-1L << fromIndex);
+		while (word == 0) {
+			if (++slot == bits.length) {
+				return -1;
+			}
+			word = bits[slot];
+		}
+		return (slot << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * Find a candidate by its position among the candidates. Whole words of
+	 * the bitset are skipped by their bit count, so this is about
+	 * dictionary size / 64 steps rather than one per candidate.
+	 * 
+	 * @param n, the position, from 0 to getRemainingCount() - 1
+	 * @return int, the dictionary index of the candidate or -1 if there are
+	 *         not that many
+	 */
+	public int nthCandidate(int n) {
+		if (n < 0) {
+			return -1;
+		}
+		for (int slot = 0; slot < bits.length; slot++) {
+			long word = bits[slot];
+			int count = Long.bitCount(word);
+			if (n < count) {
+				// drop the n lowest set bits
+				for (int i = 0; i < n; i++) {
+					word &= word - 1;
+				}
+				return (slot << 6) + Long.numberOfTrailingZeros(word);
+			}
+			n -= count;
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the candidates as dictionary indexes
+	 * 
+	 * @return int[], the dictionary indexes in increasing order
+	 */
+	public int[] toArray() {
+		int[] candidates = new int[remaining];
+		int count = 0;
+		for (int i = nextCandidate(0); i >= 0; i = nextCandidate(i + 1)) {
+			candidates[count++] = i;
+		}
+		return candidates;
+	}
+
+	/**
+	 * Check a word against every guess applied so far (hard mode). The word does
+	 * not have to be in the dictionary.
+	 * 
+	 * @param packedWord, the packed word to check
+	 * @return boolean, true if the word would have given the same patterns
+	 */
+	public boolean isConsistent(int packedWord) {
+		for (int i = 0; i < guessCount; i++) {
+			if (Feedback.score(guesses[i], packedWord) != patterns[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Helper method to keep the guess for isConsistent
+	 * 
+	 * @param packedGuess, the packed guess
+	 * @param pattern, the pattern for the guess
+	 */
+	private void record(int packedGuess, int pattern) {
+		if (guessCount == guesses.length) {
+			guesses = Arrays.copyOf(guesses, guessCount * 2);
+			patterns = Arrays.copyOf(patterns, guessCount * 2);
+		}
+		guesses[guessCount] = packedGuess;
+		patterns[guessCount] = pattern;
+		guessCount++;
+	}
+
+	/**
+	 * Helper method to check if a letter appears earlier in the guess
+	 * 
+	 * @param packedGuess, the packed guess
+	 * @param letter, the letter index
+	 * @param position, the position to look before
+	 * @return boolean, true if the letter is at an earlier position
+	 */
+	private static boolean seenBefore(int packedGuess, int letter, int position) {
+		for (int i = 0; i < position; i++) {
+			if (PackedWord.letterAt(packedGuess, i) == letter) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Helper method to keep only the candidates in a mask
+	 * 
+	 * @param mask, the words to keep
+	 */
+	private void and(long[] mask) {
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] &= mask[i];
+		}
+	}
+
+	/**
+	 * Helper method to drop the candidates in a mask
+	 * 
+	 * @param mask, the words to drop
+	 */
+	private void andNot(long[] mask) {
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] &= ~mask[i];
+		}
+	}
+}
@@ -10,8 +10,17 @@ import java.time.LocalDate;
  * COURSE: CSC 335 Spring 2023
  * PURPOSE: This class creates a Credentials object that contains user password,
  * user last login date and number of games played by user.
+ * 
+ * A Credentials object is not thread safe by itself; the AccountRepository
+ * makes every change to a user's credentials under that user's lock.
  */
 public class Credentials implements Serializable {
+	/**
+	 * Pinned to the value the class had when credentials.ser was first written,
+	 * so adding methods doesn't stop old files from loading
+	 */
+	private static final long serialVersionUID = -2599211744711329614L;
+
 	private final static int MAX_GUESSES = 6;
 	
 	/**
@@ -68,7 +77,6 @@ public class Credentials implements Serializable {
 		} else {
 			currentWinningStreak = 0;
 		}
-		System.out.print(this);
 	}
 	
 	/**
@@ -179,4 +187,31 @@ public class Credentials implements Serializable {
 	public void setNumGamesPlayed(int numGamesPlayed) {
 		this.numGamesPlayed = numGamesPlayed;
 	}
+
+	/**
+	 * Set number of games won by user
+	 * 
+	 * @param numGamesWon, the integer number of games won
+	 */
+	public void setNumGamesWon(int numGamesWon) {
+		this.numGamesWon = numGamesWon;
+	}
+
+	/**
+	 * Set current winning streak for the user
+	 * 
+	 * @param currentWinningStreak, the integer current winning streak
+	 */
+	public void setCurrentWinningStreak(int currentWinningStreak) {
+		this.currentWinningStreak = currentWinningStreak;
+	}
+
+	/**
+	 * Set max winning streak for the user
+	 * 
+	 * @param maxWinningStreak, the integer max winning streak
+	 */
+	public void setMaxWinningStreak(int maxWinningStreak) {
+		this.maxWinningStreak = maxWinningStreak;
+	}
 }
\ No newline at end of file
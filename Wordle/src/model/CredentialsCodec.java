@@ -0,0 +1,337 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: CredentialsCodec.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Binary file format for the account snapshot, used instead of Java
+ * serialization. The file is
+ *
+ *   magic "WDLA", version byte, varint account count, the accounts, crc32
+ *
+ * and each account is
+ *
+ *   name     varint byte length, UTF-8 bytes
+ *   password varint byte length + 1 (0 for none), UTF-8 bytes
+ *   login    varint zigzag epoch day + 1 (0 for never)
+ *   counters varint games played, games won, current streak, max streak
+ *   guesses  varint count for each of the MAX_GUESSES slots
+ *
+ * Varints are 7 bits per byte, low bits first, so small counters take one
+ * byte. The version is checked on load; a new layout gets a new VERSION and a
+ * branch in decode. migrate converts an old Java serialized credentials.ser.
+ */
+public final class CredentialsCodec {
+
+	/**
+	 * File format version, bump when the layout changes
+	 */
+	public static final int VERSION = 1;
+
+	private static final int MAGIC = 0x57444C41; // "WDLA"
+	private static final int MAX_GUESSES = 6;
+
+	private CredentialsCodec() {
+	}
+
+	/**
+	 * Write accounts to a file. The file is written next to target first and
+	 * moved into place when complete, so a crash never leaves half a file.
+	 *
+	 * @param accounts, user names to credentials
+	 * @param target, the Path of the file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void save(Map<String, Credentials> accounts, Path target) throws IOException {
+		Path absolute = target.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		try (OutputStream out = Files.newOutputStream(temp)) {
+			encode(accounts, out);
+		}
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Read accounts from a file
+	 *
+	 * @param source, the Path of the file
+	 * @return HashMap, user names to credentials
+	 * @throws IOException if the file cannot be read or is not a valid file
+	 */
+	public static HashMap<String, Credentials> load(Path source) throws IOException {
+		return decode(Files.readAllBytes(source));
+	}
+
+	/**
+	 * Encode accounts to a stream
+	 *
+	 * @param accounts, user names to credentials
+	 * @param out, the stream, left open
+	 * @throws IOException if the stream cannot be written
+	 */
+	public static void encode(Map<String, Credentials> accounts, OutputStream out) throws IOException {
+		Encoder encoder = new Encoder(out);
+		encoder.writeInt(MAGIC);
+		encoder.writeByte(VERSION);
+		encoder.writeVarint(accounts.size());
+		for (Map.Entry<String, Credentials> entry : accounts.entrySet()) {
+			Credentials user = entry.getValue();
+			byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+			encoder.writeVarint(name.length);
+			encoder.writeBytes(name);
+			if (user.getPassword() == null) {
+				encoder.writeVarint(0);
+			} else {
+				byte[] password = user.getPassword().getBytes(StandardCharsets.UTF_8);
+				encoder.writeVarint(password.length + 1);
+				encoder.writeBytes(password);
+			}
+			LocalDate login = user.getLastLoginDate();
+			encoder.writeVarlong(login == null ? 0 : zigzag(login.toEpochDay()) + 1);
+			encoder.writeVarint(user.getNumGamesPlayed());
+			encoder.writeVarint(user.getNumGamesWon());
+			encoder.writeVarint(user.getCurrentWinningStreak());
+			encoder.writeVarint(user.getMaxWinningStreak());
+			int[] distribution = user.getGuessDistribution();
+			for (int i = 0; i < MAX_GUESSES; i++) {
+				encoder.writeVarint(i < distribution.length ? distribution[i] : 0);
+			}
+		}
+		encoder.finish();
+	}
+
+	/**
+	 * Decode accounts written by encode
+	 *
+	 * @param bytes, the whole file
+	 * @return HashMap, user names to credentials
+	 * @throws IOException if the bytes are not a valid file of a known version
+	 */
+	public static HashMap<String, Credentials> decode(byte[] bytes) throws IOException {
+		if (bytes.length < 9) {
+			throw new IOException("Credentials file too short");
+		}
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length - 4);
+		Decoder decoder = new Decoder(bytes, bytes.length - 4);
+		if (decoder.readInt() != MAGIC) {
+			throw new IOException("Not a credentials file");
+		}
+		int version = decoder.readByte();
+		if (version != VERSION) {
+			throw new IOException("Unknown credentials file version " + version);
+		}
+		Decoder trailer = new Decoder(bytes, bytes.length);
+		trailer.position = bytes.length - 4;
+		if ((int) crc.getValue() != trailer.readInt()) {
+			throw new IOException("Credentials file checksum mismatch");
+		}
+
+		int count = decoder.readVarint();
+		HashMap<String, Credentials> accounts = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+		for (int i = 0; i < count; i++) {
+			String name = decoder.readString(decoder.readVarint());
+			Credentials user = new Credentials();
+			int passwordLength = decoder.readVarint();
+			user.setPassword(passwordLength == 0 ? null : decoder.readString(passwordLength - 1));
+			long login = decoder.readVarlong();
+			user.setLastLoginDate(login == 0 ? null : LocalDate.ofEpochDay(unzigzag(login - 1)));
+			user.setNumGamesPlayed(decoder.readVarint());
+			user.setNumGamesWon(decoder.readVarint());
+			user.setCurrentWinningStreak(decoder.readVarint());
+			user.setMaxWinningStreak(decoder.readVarint());
+			int[] distribution = user.getGuessDistribution();
+			for (int slot = 0; slot < MAX_GUESSES; slot++) {
+				distribution[slot] = decoder.readVarint();
+			}
+			accounts.put(name, user);
+		}
+		return accounts;
+	}
+
+	/**
+	 * Convert a Java serialized credentials file to this format. The old file
+	 * is left as it is.
+	 *
+	 * @param legacy, the Path of the serialized HashMap
+	 * @param target, the Path of the file to write
+	 * @return HashMap, the migrated accounts
+	 * @throws IOException if the old file cannot be read or the new one written
+	 */
+	public static HashMap<String, Credentials> migrate(Path legacy, Path target) throws IOException {
+		HashMap<String, Credentials> accounts = readSerialized(legacy);
+		save(accounts, target);
+		return accounts;
+	}
+
+	/**
+	 * Read a Java serialized credentials file
+	 *
+	 * @param legacy, the Path of the serialized HashMap
+	 * @return HashMap, user names to credentials
+	 * @throws IOException if the file cannot be read or is damaged
+	 */
+	public static HashMap<String, Credentials> readSerialized(Path legacy) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(legacy)))) {
+			@SuppressWarnings("unchecked")
+			HashMap<String, Credentials> accounts = (HashMap<String, Credentials>) in.readObject();
+			if (accounts == null) {
+				throw new IOException("No accounts in " + legacy);
+			}
+			return accounts;
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Not a credentials file: " + legacy, e);
+		}
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Buffered writer of the file that keeps the checksum as it goes
+	 */
+	private static final class Encoder {
+		private final OutputStream out;
+		private final byte[] buffer = new byte[1 << 16];
+		private final CRC32 crc = new CRC32();
+		private int position;
+
+		Encoder(OutputStream out) {
+			this.out = out;
+		}
+
+		void writeByte(int value) throws IOException {
+			if (position == buffer.length) {
+				drain();
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeInt(int value) throws IOException {
+			writeByte(value >>> 24);
+			writeByte(value >>> 16);
+			writeByte(value >>> 8);
+			writeByte(value);
+		}
+
+		/**
+		 * Write an int as an unsigned varint (negative values take 5 bytes)
+		 */
+		void writeVarint(int value) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				writeByte((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			writeByte(value);
+		}
+
+		void writeVarlong(long value) throws IOException {
+			while ((value & ~0x7FL) != 0) {
+				writeByte((int) (value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			writeByte((int) value);
+		}
+
+		void writeBytes(byte[] bytes) throws IOException {
+			for (byte b : bytes) {
+				writeByte(b);
+			}
+		}
+
+		/**
+		 * Write the checksum of everything written and flush
+		 */
+		void finish() throws IOException {
+			crc.update(buffer, 0, position);
+			int checksum = (int) crc.getValue();
+			out.write(buffer, 0, position);
+			position = 0;
+			writeInt(checksum);
+			out.write(buffer, 0, position);
+			out.flush();
+		}
+
+		private void drain() throws IOException {
+			crc.update(buffer, 0, position);
+			out.write(buffer, 0, position);
+			position = 0;
+		}
+	}
+
+	/**
+	 * Reader of a file already in memory
+	 */
+	private static final class Decoder {
+		private final byte[] bytes;
+		private final int limit;
+		private int position;
+
+		Decoder(byte[] bytes, int limit) {
+			this.bytes = bytes;
+			this.limit = limit;
+		}
+
+		int readByte() throws IOException {
+			if (position >= limit) {
+				throw new IOException("Credentials file cut short");
+			}
+			return bytes[position++] & 0xFF;
+		}
+
+		int readInt() throws IOException {
+			return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+		}
+
+		int readVarint() throws IOException {
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				int b = readByte();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IOException("Malformed varint in credentials file");
+		}
+
+		long readVarlong() throws IOException {
+			long value = 0;
+			for (int shift = 0; shift < 70; shift += 7) {
+				int b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IOException("Malformed varint in credentials file");
+		}
+
+		String readString(int length) throws IOException {
+			if (length < 0 || length > limit - position) {
+				throw new IOException("Credentials file cut short");
+			}
+			String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+	}
+}
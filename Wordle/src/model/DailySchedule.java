@@ -0,0 +1,95 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: DailySchedule.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: The calendar of daily words. The words are shuffled once with a
+ * fixed seed, and day n after FIRST_DAY gets the n-th word of the shuffle, so
+ * every player, GUI or server session, gets the same word on the same date
+ * and no word comes back until every word has had its day. Looking up a day
+ * is one array read. After the last word the calendar starts over.
+ *
+ * The order only depends on the seed and the number of words, so results
+ * worked out for a day (statistics, solver results) can be cached by
+ * getDayNumber.
+ */
+public final class DailySchedule {
+
+	/**
+	 * The day of puzzle 0
+	 */
+	public static final LocalDate FIRST_DAY = LocalDate.of(2021, 6, 19);
+
+	/**
+	 * Seed of the shuffle, changing it changes every day's word
+	 */
+	private static final long SEED = 0x5744_4C44_4149_4C59L;
+
+	/**
+	 * order[n] is the index of the word of day n
+	 */
+	private final int[] order;
+
+	/**
+	 * Constructor for DailySchedule
+	 *
+	 * @param wordCount, the number of words to schedule
+	 */
+	public DailySchedule(int wordCount) {
+		order = new int[wordCount];
+		for (int i = 0; i < wordCount; i++) {
+			order[i] = i;
+		}
+		// Fisher-Yates; java.util.Random gives the same numbers on every JVM
+		Random random = new Random(SEED);
+		for (int i = wordCount - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int swap = order[i];
+			order[i] = order[j];
+			order[j] = swap;
+		}
+	}
+
+	/**
+	 * Get the puzzle number of a date
+	 *
+	 * @param date, the date
+	 * @return long, days since FIRST_DAY, negative before it
+	 */
+	public static long getDayNumber(LocalDate date) {
+		return date.toEpochDay() - FIRST_DAY.toEpochDay();
+	}
+
+	/**
+	 * Get the word of a date
+	 *
+	 * @param date, the date
+	 * @return int, the index of the word in the word list
+	 */
+	public int getWordIndex(LocalDate date) {
+		return getWordIndex(getDayNumber(date));
+	}
+
+	/**
+	 * Get the word of a puzzle number
+	 *
+	 * @param day, the puzzle number, any value
+	 * @return int, the index of the word in the word list
+	 */
+	public int getWordIndex(long day) {
+		return order[(int) Math.floorMod(day, (long) order.length)];
+	}
+
+	/**
+	 * Get the number of days before the words repeat
+	 *
+	 * @return int, the number of words
+	 */
+	public int size() {
+		return order.length;
+	}
+}
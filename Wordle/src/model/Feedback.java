@@ -0,0 +1,118 @@
+package model;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: Feedback.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Computes the colour pattern for a guess against an answer. Both
+ * words are packed with PackedWord and the result is a base 3 number from 0 to
+ * 242 (one digit per letter, first letter is the lowest digit) so it fits in a
+ * single byte and needs no allocation. decode turns a pattern back into the
+ * -1/0/1 array used by the GUI.
+ */
+public final class Feedback {
+
+	/**
+	 * Digit for a letter that is not in the answer (grey)
+	 */
+	public static final int ABSENT = 0;
+
+	/**
+	 * Digit for a letter that is in the answer at another position (yellow)
+	 */
+	public static final int PRESENT = 1;
+
+	/**
+	 * Digit for a letter in the right position (green)
+	 */
+	public static final int CORRECT = 2;
+
+	/**
+	 * Number of different patterns (3^5)
+	 */
+	public static final int PATTERN_COUNT = 243;
+
+	/**
+	 * Pattern for a guess that matches the answer
+	 */
+	public static final int ALL_CORRECT = PATTERN_COUNT - 1;
+
+	private static final int[] POWERS_OF_THREE = { 1, 3, 9, 27, 81 };
+
+	private Feedback() {
+	}
+
+	/**
+	 * Score a guess against an answer. Greens are taken first, then each
+	 * remaining guess letter is matched against the first unused answer letter
+	 * that is not green, so a repeated letter is only yellow as many times as it
+	 * is left over in the answer.
+	 * 
+	 * @param guess, the packed guess
+	 * @param answer, the packed answer
+	 * @return int, the pattern from 0 to 242
+	 */
+	public static int score(int guess, int answer) {
+		int greens = 0;
+		int pattern = 0;
+		for (int i = 0; i < PackedWord.WORD_LENGTH; i++) {
+			if (PackedWord.letterAt(guess, i) == PackedWord.letterAt(answer, i)) {
+				greens |= 1 << i;
+				pattern += CORRECT * POWERS_OF_THREE[i];
+			}
+		}
+		// bit j is set once answer letter j has been matched by some guess letter
+		int usedAnswerLetters = greens;
+		for (int i = 0; i < PackedWord.WORD_LENGTH; i++) {
+			if ((greens & (1 << i)) != 0) {
+				continue;
+			}
+			int letter = PackedWord.letterAt(guess, i);
+			for (int j = 0; j < PackedWord.WORD_LENGTH; j++) {
+				if ((usedAnswerLetters & (1 << j)) == 0 && PackedWord.letterAt(answer, j) == letter) {
+					usedAnswerLetters |= 1 << j;
+					pattern += PRESENT * POWERS_OF_THREE[i];
+					break;
+				}
+			}
+		}
+		return pattern;
+	}
+
+	/**
+	 * Get the digit for one letter of a pattern
+	 * 
+	 * @param pattern, the pattern from score
+	 * @param position, the letter position (0-4)
+	 * @return int, ABSENT, PRESENT or CORRECT
+	 */
+	public static int digitAt(int pattern, int position) {
+		return (pattern / POWERS_OF_THREE[position]) % 3;
+	}
+
+	/**
+	 * Get the status for one letter of a pattern using the GUI convention
+	 * 
+	 * @param pattern, the pattern from score
+	 * @param position, the letter position (0-4)
+	 * @return int, 1 for the right place, 0 for the wrong place, -1 if not in the
+	 *         word
+	 */
+	public static int statusAt(int pattern, int position) {
+		return digitAt(pattern, position) - 1;
+	}
+
+	/**
+	 * Decode a pattern into the status array returned by checkAccuracy
+	 * 
+	 * @param pattern, the pattern from score
+	 * @return int[], status for each letter (1, 0 or -1)
+	 */
+	public static int[] decode(int pattern) {
+		int[] status = new int[PackedWord.WORD_LENGTH];
+		for (int i = 0; i < PackedWord.WORD_LENGTH; i++) {
+			status[i] = statusAt(pattern, i);
+		}
+		return status;
+	}
+}
@@ -0,0 +1,364 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: FeedbackMatrix.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Holds the Feedback.score pattern for every guess/answer pair of the
+ * loaded word list as one byte per pair. The matrix is computed in parallel
+ * and saved to a cache file that is memory mapped on later startups, so a
+ * lookup is a single read. When the cache file is missing or was built for a
+ * different word list the rows are computed lazily on first use while a
+ * background thread rebuilds the file.
+ *
+ * Only one build per cache file and word list runs at a time in a process,
+ * and each build writes a temporary file of its own, so builds in other
+ * processes never touch it. The builder is not a daemon thread: a run that
+ * ends before the build does waits for it, so the work is not thrown away and
+ * the next start maps the file. The lazy rows kept in memory are capped at
+ * LAZY_CACHE_BYTES; lookups in rows past the cap are scored directly.
+ */
+public final class FeedbackMatrix {
+
+	/**
+	 * File format version, bump when the layout changes
+	 */
+	public static final int VERSION = 1;
+
+	private static final int MAGIC = 0x57444C4D; // "WDLM"
+	private static final int HEADER_SIZE = 24; // magic, version, hash, rows, columns
+
+	// number of rows a fork-join task computes without splitting further
+	private static final int ROWS_PER_TASK = 64;
+
+	// most bytes of lazily computed rows kept at once
+	private static final long LAZY_CACHE_BYTES = 32L << 20;
+
+	/**
+	 * Builds in progress, by cache file and word hash
+	 */
+	private static final Set<String> BUILDS = ConcurrentHashMap.newKeySet();
+
+	private final int[] guesses;
+	private final int[] answers;
+
+	/**
+	 * The mapped cache file, null when rows are computed lazily
+	 */
+	private final ByteBuffer mapped;
+
+	/**
+	 * Rows computed so far when there is no mapped file, at most maxLazyRows
+	 */
+	private final AtomicReferenceArray<byte[]> lazyRows;
+	private final AtomicInteger lazyRowCount = new AtomicInteger();
+	private final int maxLazyRows;
+
+	private FeedbackMatrix(int[] guesses, int[] answers, ByteBuffer mapped) {
+		this.guesses = guesses;
+		this.answers = answers;
+		this.mapped = mapped;
+		this.lazyRows = mapped == null ? new AtomicReferenceArray<>(guesses.length) : null;
+		this.maxLazyRows = (int) Math.min(guesses.length, LAZY_CACHE_BYTES / Math.max(1, answers.length));
+	}
+
+	/**
+	 * Open the matrix for a word list. Maps cacheFile when it matches the words,
+	 * otherwise returns a lazily computed matrix and rebuilds cacheFile on a
+	 * background thread for the next startup, unless a build of the same file
+	 * for the same words is already running.
+	 *
+	 * @param cacheFile, the Path of the cache file
+	 * @param guesses, the packed words that can be guessed (matrix rows)
+	 * @param answers, the packed words that can be answers (matrix columns)
+	 * @return FeedbackMatrix, the matrix for the words
+	 */
+	public static FeedbackMatrix open(Path cacheFile, int[] guesses, int[] answers) {
+		try {
+			FeedbackMatrix cached = map(cacheFile, guesses, answers);
+			if (cached != null) {
+				return cached;
+			}
+		} catch (IOException e) {
+			// unreadable cache, rebuild it below
+		}
+
+		if (fitsInOneMapping(guesses.length, answers.length)) {
+			startBuild(cacheFile, guesses, answers);
+		}
+		return lazy(guesses, answers);
+	}
+
+	/**
+	 * Create a matrix that computes each row the first time it is used
+	 *
+	 * @param guesses, the packed words that can be guessed (matrix rows)
+	 * @param answers, the packed words that can be answers (matrix columns)
+	 * @return FeedbackMatrix, the lazily computed matrix
+	 */
+	public static FeedbackMatrix lazy(int[] guesses, int[] answers) {
+		return new FeedbackMatrix(guesses, answers, null);
+	}
+
+	/**
+	 * Map an existing cache file
+	 *
+	 * @param cacheFile, the Path of the cache file
+	 * @param guesses, the packed words that can be guessed (matrix rows)
+	 * @param answers, the packed words that can be answers (matrix columns)
+	 * @return FeedbackMatrix, the mapped matrix or null if the file is missing or
+	 *         stale
+	 * @throws IOException if the file cannot be read
+	 */
+	public static FeedbackMatrix map(Path cacheFile, int[] guesses, int[] answers) throws IOException {
+		if (!Files.isRegularFile(cacheFile) || !fitsInOneMapping(guesses.length, answers.length)) {
+			return null;
+		}
+		long expectedSize = HEADER_SIZE + (long) guesses.length * answers.length;
+		try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+			if (channel.size() != expectedSize) {
+				return null;
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+					|| buffer.getLong(8) != hashWords(guesses, answers) || buffer.getInt(16) != guesses.length
+					|| buffer.getInt(20) != answers.length) {
+				return null;
+			}
+			// the mapping stays valid after the channel is closed
+			return new FeedbackMatrix(guesses, answers, buffer);
+		}
+	}
+
+	/**
+	 * Compute every pattern in parallel and write the cache file. The file is
+	 * written to a new temporary file next to cacheFile and moved into place
+	 * when complete, so a crash never leaves a half written cache behind and
+	 * builds running at the same time don't write over each other.
+	 *
+	 * @param cacheFile, the Path of the cache file
+	 * @param guesses, the packed words that can be guessed (matrix rows)
+	 * @param answers, the packed words that can be answers (matrix columns)
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void build(Path cacheFile, int[] guesses, int[] answers) throws IOException {
+		if (!fitsInOneMapping(guesses.length, answers.length)) {
+			throw new IOException("Word list too large to cache: " + guesses.length + "x" + answers.length);
+		}
+		Path absolute = cacheFile.toAbsolutePath();
+		Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		long size = HEADER_SIZE + (long) guesses.length * answers.length;
+
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				ForkJoinPool.commonPool().invoke(new RowTask(guesses, answers, buffer, 0, guesses.length));
+
+				// header goes last so a partly written file never looks valid
+				buffer.putInt(0, MAGIC);
+				buffer.putInt(4, VERSION);
+				buffer.putLong(8, hashWords(guesses, answers));
+				buffer.putInt(16, guesses.length);
+				buffer.putInt(20, answers.length);
+				buffer.force();
+			}
+			Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Get the pattern for a guess and an answer
+	 *
+	 * @param guessIndex, index of the guess in the guesses array
+	 * @param answerIndex, index of the answer in the answers array
+	 * @return int, the pattern from Feedback.score (0-242)
+	 */
+	public int pattern(int guessIndex, int answerIndex) {
+		if (mapped != null) {
+			return mapped.get(HEADER_SIZE + guessIndex * answers.length + answerIndex) & 0xFF;
+		}
+		byte[] row = row(guessIndex);
+		if (row == null) {
+			return Feedback.score(guesses[guessIndex], answers[answerIndex]);
+		}
+		return row[answerIndex] & 0xFF;
+	}
+
+	/**
+	 * Get number of guesses (rows)
+	 *
+	 * @return int, number of guesses
+	 */
+	public int getGuessCount() {
+		return guesses.length;
+	}
+
+	/**
+	 * Get number of answers (columns)
+	 *
+	 * @return int, number of answers
+	 */
+	public int getAnswerCount() {
+		return answers.length;
+	}
+
+	/**
+	 * Check if the matrix is read from the cache file
+	 *
+	 * @return boolean, true if memory mapped, false if computed lazily
+	 */
+	public boolean isMapped() {
+		return mapped != null;
+	}
+
+	/**
+	 * Helper method to get a lazily computed row, computing it if needed. Two
+	 * threads may compute the same row at once; both produce the same bytes.
+	 *
+	 * @param guessIndex, the row to get
+	 * @return byte[], the patterns for the guess against every answer, or null
+	 *         if the row isn't kept and there is no room for it
+	 */
+	private byte[] row(int guessIndex) {
+		byte[] row = lazyRows.get(guessIndex);
+		if (row == null) {
+			if (lazyRowCount.incrementAndGet() > maxLazyRows) {
+				lazyRowCount.decrementAndGet();
+				return null;
+			}
+			row = new byte[answers.length];
+			computeRow(guesses[guessIndex], answers, row);
+			if (!lazyRows.compareAndSet(guessIndex, null, row)) {
+				// another thread kept the row first
+				lazyRowCount.decrementAndGet();
+				row = lazyRows.get(guessIndex);
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * Helper method to build the cache file on a background thread, unless a
+	 * build of the same file for the same words is already running
+	 *
+	 * @param cacheFile, the Path of the cache file
+	 * @param guesses, the packed words that can be guessed (matrix rows)
+	 * @param answers, the packed words that can be answers (matrix columns)
+	 */
+	private static void startBuild(Path cacheFile, int[] guesses, int[] answers) {
+		String key = cacheFile.toAbsolutePath() + "#" + Long.toHexString(hashWords(guesses, answers));
+		if (!BUILDS.add(key)) {
+			return;
+		}
+		Thread builder = new Thread(() -> {
+			try {
+				build(cacheFile, guesses, answers);
+			} catch (IOException e) {
+				e.printStackTrace();
+			} finally {
+				BUILDS.remove(key);
+			}
+		}, "feedback-matrix-builder");
+		// not a daemon, so the program waits for the build instead of losing it
+		builder.setPriority(Thread.MIN_PRIORITY);
+		builder.start();
+	}
+
+	/**
+	 * Helper method to score one guess against every answer
+	 *
+	 * @param guess, the packed guess
+	 * @param answers, the packed answers
+	 * @param row, where the patterns are written
+	 */
+	private static void computeRow(int guess, int[] answers, byte[] row) {
+		for (int a = 0; a < answers.length; a++) {
+			row[a] = (byte) Feedback.score(guess, answers[a]);
+		}
+	}
+
+	/**
+	 * Helper method to check the file fits in a single MappedByteBuffer
+	 *
+	 * @param rows, the number of guesses
+	 * @param columns, the number of answers
+	 * @return boolean, true if the file can be mapped
+	 */
+	private static boolean fitsInOneMapping(int rows, int columns) {
+		return HEADER_SIZE + (long) rows * columns <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Helper method to hash the word list the matrix was built for (64 bit
+	 * FNV-1a over the packed words)
+	 *
+	 * @param guesses, the packed guesses
+	 * @param answers, the packed answers
+	 * @return long, the hash
+	 */
+	private static long hashWords(int[] guesses, int[] answers) {
+		long hash = 0xcbf29ce484222325L;
+		for (int[] words : new int[][] { guesses, answers }) {
+			hash = (hash ^ words.length) * 0x100000001b3L;
+			for (int word : words) {
+				hash = (hash ^ word) * 0x100000001b3L;
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Fork-join task that splits the rows in half until they are small enough to
+	 * compute directly
+	 */
+	private static final class RowTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] guesses;
+		private final int[] answers;
+		private final ByteBuffer out;
+		private final int from;
+		private final int to;
+
+		RowTask(int[] guesses, int[] answers, ByteBuffer out, int from, int to) {
+			this.guesses = guesses;
+			this.answers = answers;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= ROWS_PER_TASK) {
+				byte[] row = new byte[answers.length];
+				for (int g = from; g < to; g++) {
+					computeRow(guesses[g], answers, row);
+					// absolute put, so tasks writing different rows never share a position
+					out.put(HEADER_SIZE + g * answers.length, row);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new RowTask(guesses, answers, out, from, middle),
+					new RowTask(guesses, answers, out, middle, to));
+		}
+	}
+}
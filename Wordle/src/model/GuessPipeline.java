@@ -0,0 +1,200 @@
+package model;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: GuessPipeline.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Handles guesses away from the thread that takes the input. submit
+ * returns at once; checking the word, scoring it and saving the player's
+ * statistics when the game ends happen on one background thread, and the
+ * Result is delivered with the executor given to the constructor (for the
+ * GUI, Platform::runLater). There is one background thread and the results
+ * are handed over in the order they are made, so results arrive in the
+ * order the guesses were submitted.
+ *
+ * A guess is only made if the game it was typed in is still the current
+ * game; a guess submitted just before a new game started comes back stale.
+ */
+public class GuessPipeline implements AutoCloseable {
+
+	/**
+	 * What happened to a guess
+	 */
+	public static final class Result {
+
+		private final String guess;
+		private final int gameNumber;
+		private final boolean stale;
+		private final boolean valid;
+		private final int pattern;
+		private final boolean won;
+		private final boolean gameOver;
+		private final int guessCount;
+
+		private Result(String guess, int gameNumber, boolean stale, boolean valid, int pattern, boolean won,
+				boolean gameOver, int guessCount) {
+			this.guess = guess;
+			this.gameNumber = gameNumber;
+			this.stale = stale;
+			this.valid = valid;
+			this.pattern = pattern;
+			this.won = won;
+			this.gameOver = gameOver;
+			this.guessCount = guessCount;
+		}
+
+		/**
+		 * Getter for the guess
+		 *
+		 * @return String, the guess as submitted
+		 */
+		public String getGuess() {
+			return guess;
+		}
+
+		/**
+		 * Getter for the game the guess was typed in
+		 *
+		 * @return int, the Wordle.getGameNumber at submit
+		 */
+		public int getGameNumber() {
+			return gameNumber;
+		}
+
+		/**
+		 * Check if a new game started before the guess could be made
+		 *
+		 * @return boolean, true if the guess was dropped
+		 */
+		public boolean isStale() {
+			return stale;
+		}
+
+		/**
+		 * Check if the guess was a word, otherwise no guess was used up
+		 *
+		 * @return boolean, true if the guess was made
+		 */
+		public boolean isValid() {
+			return valid;
+		}
+
+		/**
+		 * Getter for the pattern
+		 *
+		 * @return int, the pattern from Feedback.score, 0 if not valid
+		 */
+		public int getPattern() {
+			return pattern;
+		}
+
+		/**
+		 * Check if the guess won the game
+		 *
+		 * @return boolean, true if it was the answer
+		 */
+		public boolean isWon() {
+			return won;
+		}
+
+		/**
+		 * Check if the game ended with this guess, won or lost
+		 *
+		 * @return boolean, true if the game is over
+		 */
+		public boolean isGameOver() {
+			return gameOver;
+		}
+
+		/**
+		 * Getter for the guesses made in the game, this one included
+		 *
+		 * @return int, the guess count
+		 */
+		public int getGuessCount() {
+			return guessCount;
+		}
+	}
+
+	private final ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "guess-pipeline");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Executor delivery;
+
+	/**
+	 * Constructor for GuessPipeline
+	 *
+	 * @param delivery, runs the completion of every Result, e.g. on the GUI
+	 *                  thread; it must run tasks in the order given
+	 */
+	public GuessPipeline(Executor delivery) {
+		this.delivery = delivery;
+	}
+
+	/**
+	 * Make a guess in the background
+	 *
+	 * @param game, the game to guess in
+	 * @param account, the player whose statistics to update when the game
+	 *                 ends, or null for none
+	 * @param guess, the five letters
+	 * @return CompletableFuture, completed with the Result, or with the error
+	 *         if the guess failed, by the delivery executor
+	 */
+	public CompletableFuture<Result> submit(Wordle game, WordleAccount account, String guess) {
+		int gameNumber = game.getGameNumber();
+		// whenCompleteAsync hands over failures with the delivery executor too
+		return CompletableFuture.supplyAsync(() -> guess(game, account, guess, gameNumber), worker)
+				.whenCompleteAsync((result, error) -> {
+				}, delivery);
+	}
+
+	/**
+	 * Stop the background thread, guesses already submitted are still made
+	 */
+	@Override
+	public void close() {
+		worker.shutdown();
+	}
+
+	/**
+	 * Helper method run on the background thread to make one guess
+	 *
+	 * @param game, the game to guess in
+	 * @param account, the player or null
+	 * @param guess, the five letters
+	 * @param gameNumber, the game the guess was typed in
+	 * @return Result, what happened
+	 */
+	private static Result guess(Wordle game, WordleAccount account, String guess, int gameNumber) {
+		int pattern;
+		boolean won;
+		boolean gameOver;
+		int guessCount;
+		// no new game can start between the check and the guess
+		synchronized (game) {
+			if (game.getGameNumber() != gameNumber || !game.checkGameRunning()) {
+				return new Result(guess, gameNumber, true, false, 0, false, false, game.getGuessCount());
+			}
+			if (!game.isValidWord(guess)) {
+				return new Result(guess, gameNumber, false, false, 0, false, false, game.getGuessCount());
+			}
+			pattern = game.makeGuessPacked(guess);
+			won = game.checkGameWon();
+			gameOver = !game.checkGameRunning();
+			guessCount = game.getGuessCount();
+		}
+		if (gameOver && account != null) {
+			account.updateStats(won, won ? guessCount - 1 : 0);
+		}
+		return new Result(guess, gameNumber, false, true, pattern, won, gameOver, guessCount);
+	}
+}
@@ -0,0 +1,150 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: KeyboardState.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: The best known status of every letter of the keyboard. One slot
+ * per letter holds UNUSED or a Feedback digit, and a letter only ever moves
+ * up from ABSENT to PRESENT to CORRECT: once a letter is green a later guess
+ * with it in the wrong place doesn't turn its key yellow again. A guess
+ * updates five slots straight from the packed guess and pattern, so nothing
+ * is looked up by text.
+ *
+ * Wordle keeps one for the game (hints, the server), and the GUI keeps one for
+ * the keys it has revealed, with a Listener that colors the key buttons.
+ */
+public class KeyboardState {
+
+	/**
+	 * Status of a letter that hasn't been guessed
+	 */
+	public static final int UNUSED = -1;
+
+	/**
+	 * Told about every letter whose status goes up
+	 */
+	public interface Listener {
+
+		/**
+		 * Called after a letter's status changed
+		 *
+		 * @param letter, the letter 0-25 for a-z
+		 * @param status, the new status, a Feedback digit
+		 */
+		void statusChanged(int letter, int status);
+	}
+
+	/**
+	 * status[letter] is UNUSED or the best Feedback digit seen for the letter
+	 */
+	private final byte[] status = new byte[PackedWord.ALPHABET_SIZE];
+
+	private Listener listener;
+
+	/**
+	 * Constructor for KeyboardState, every letter unused
+	 */
+	public KeyboardState() {
+		reset();
+	}
+
+	/**
+	 * Copy constructor for KeyboardState, the statuses without the listener
+	 *
+	 * @param other, the state to copy
+	 */
+	public KeyboardState(KeyboardState other) {
+		System.arraycopy(other.status, 0, status, 0, status.length);
+	}
+
+	/**
+	 * Make every letter unused again, for a new game. The listener isn't told;
+	 * whoever starts the new game clears the view with it.
+	 */
+	public void reset() {
+		Arrays.fill(status, (byte) UNUSED);
+	}
+
+	/**
+	 * Setter for the listener
+	 *
+	 * @param listener, told about every change, or null for none
+	 */
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Add what a guess showed about its letters
+	 *
+	 * @param packedGuess, the packed guess
+	 * @param pattern, the pattern from Feedback.score
+	 */
+	public void apply(int packedGuess, int pattern) {
+		for (int position = 0; position < PackedWord.WORD_LENGTH; position++) {
+			update(PackedWord.letterAt(packedGuess, position), Feedback.digitAt(pattern, position));
+		}
+	}
+
+	/**
+	 * Add what one letter of a guess showed. A status lower than the one
+	 * known is ignored.
+	 *
+	 * @param letter, the letter 0-25 for a-z
+	 * @param digit, ABSENT, PRESENT or CORRECT from Feedback
+	 * @return boolean, true if the letter's status went up
+	 */
+	public boolean update(int letter, int digit) {
+		if (digit <= status[letter]) {
+			return false;
+		}
+		status[letter] = (byte) digit;
+		if (listener != null) {
+			listener.statusChanged(letter, digit);
+		}
+		return true;
+	}
+
+	/**
+	 * Get the status of a letter
+	 *
+	 * @param letter, the letter 0-25 for a-z
+	 * @return int, UNUSED or a Feedback digit
+	 */
+	public int getStatus(int letter) {
+		return status[letter];
+	}
+
+	/**
+	 * Get the status of a letter
+	 *
+	 * @param letter, the letter in any case
+	 * @return int, UNUSED or a Feedback digit, UNUSED for anything that is not
+	 *         a letter
+	 */
+	public int getStatus(char letter) {
+		int index = Character.toLowerCase(letter) - 'a';
+		if (index < 0 || index >= status.length) {
+			return UNUSED;
+		}
+		return status[index];
+	}
+
+	/**
+	 * The statuses of a to z in one string, a digit for each guessed letter
+	 * and '-' for each unused one, e.g. for a headless client
+	 *
+	 * @return String, 26 characters
+	 */
+	@Override
+	public String toString() {
+		char[] letters = new char[status.length];
+		for (int i = 0; i < status.length; i++) {
+			letters[i] = status[i] == UNUSED ? '-' : (char) ('0' + status[i]);
+		}
+		return new String(letters);
+	}
+}
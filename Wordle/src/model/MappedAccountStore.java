@@ -0,0 +1,535 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: MappedAccountStore.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Account storage engine that keeps every account in a fixed size
+ * slot of a memory mapped file, so saving one user's statistics writes that
+ * user's slot and nothing else. The file is a header followed by slots:
+ *
+ *   header  one slot: magic "WDLS", version, slot size
+ *   slot    two copies of a record
+ *   record  crc32 of the rest, sequence, in use flag, counters, guess
+ *           distribution, login epoch day, name and password lengths, name
+ *           bytes, password bytes
+ *
+ * Records are DEFAULT_RECORD_SIZE bytes, which holds any name and password
+ * within the AccountRepository limits. A file made for longer names (the
+ * accounts imported from credentials.ser, which had no limit) gets bigger
+ * records; the size is chosen when the file is created and kept in the
+ * header.
+ *
+ * A save writes the copy that is not current with the next sequence number,
+ * so a crash in the middle of a save leaves the other copy intact; on open
+ * the copy with a good checksum and the higher sequence wins. Slots are
+ * slot size aligned, so a slot of up to a page never crosses one. Deleting an account marks its
+ * slot free and the slot is reused by the next new account; the free list is
+ * rebuilt by the scan on open, so it can't go stale after a crash. When every
+ * slot is used the file doubles and is mapped again.
+ */
+public final class MappedAccountStore implements Closeable {
+
+	/**
+	 * File format version, bump when the layout changes
+	 */
+	public static final int VERSION = 2;
+
+	/**
+	 * Record size of a new file, enough for 32 characters of name and of
+	 * password in any alphabet (a char is at most 3 bytes of UTF-8)
+	 */
+	public static final int DEFAULT_RECORD_SIZE = 256;
+
+	/**
+	 * Largest record size, for names and passwords that fill the two byte
+	 * lengths
+	 */
+	public static final int MAX_RECORD_SIZE = 1 << 18;
+
+	private static final int MAGIC = 0x57444C53; // "WDLS"
+	private static final int MAX_STRING_BYTES = 0xFFFE;
+	private static final int INITIAL_SLOTS = 1024;
+	private static final int MAX_GUESSES = 6;
+
+	// record layout
+	private static final int CRC = 0;
+	private static final int SEQUENCE = 4;
+	private static final int IN_USE = 8;
+	private static final int PLAYED = 12;
+	private static final int WON = 16;
+	private static final int CURRENT_STREAK = 20;
+	private static final int MAX_STREAK = 24;
+	private static final int DISTRIBUTION = 28;
+	private static final int LOGIN = 52;
+	private static final int NAME_LENGTH = 60;
+	private static final int PASSWORD_LENGTH = 62;
+	private static final int NAME = 64;
+
+	private static final int NO_PASSWORD = 0xFFFF;
+	private static final long NO_LOGIN = Long.MIN_VALUE;
+
+	private final FileChannel channel;
+	private MappedByteBuffer mapped;
+	private int capacity;
+	private final int recordSize;
+	private final int slotSize;
+
+	/**
+	 * Slot of each account
+	 */
+	private final HashMap<String, Integer> slots = new HashMap<>();
+
+	/**
+	 * Sequence number of the current copy of each slot, -1 if neither is valid
+	 */
+	private int[] sequences;
+	private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+	/**
+	 * Accounts found by the scan on open
+	 */
+	private final HashMap<String, Credentials> loaded = new HashMap<>();
+
+	private final ByteBuffer record;
+	private final CRC32 crc = new CRC32();
+
+	// range written since the last sync
+	private int dirtyFrom = Integer.MAX_VALUE;
+	private int dirtyTo;
+
+	/**
+	 * Open a store, creating an empty one with DEFAULT_RECORD_SIZE records if
+	 * the file is missing or empty
+	 *
+	 * @param file, the Path of the store
+	 * @throws IOException if the file cannot be opened or is not a store
+	 */
+	public MappedAccountStore(Path file) throws IOException {
+		this(file, DEFAULT_RECORD_SIZE);
+	}
+
+	/**
+	 * Open a store, creating an empty one if the file is missing or empty
+	 *
+	 * @param file, the Path of the store
+	 * @param newRecordSize, the record size if the file is created, a power of
+	 *                       two from DEFAULT_RECORD_SIZE to MAX_RECORD_SIZE; an
+	 *                       existing file keeps its own
+	 * @throws IOException if the file cannot be opened or is not a store
+	 */
+	public MappedAccountStore(Path file, int newRecordSize) throws IOException {
+		if (Integer.bitCount(newRecordSize) != 1 || newRecordSize < DEFAULT_RECORD_SIZE
+				|| newRecordSize > MAX_RECORD_SIZE) {
+			throw new IllegalArgumentException("Not a record size: " + newRecordSize);
+		}
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		boolean created = channel.size() == 0;
+		if (created) {
+			slotSize = 2 * newRecordSize;
+			capacity = INITIAL_SLOTS;
+		} else {
+			ByteBuffer header = ByteBuffer.allocate(12);
+			channel.read(header, 0);
+			int size = header.getInt(8);
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || Integer.bitCount(size) != 1
+					|| size < 2 * DEFAULT_RECORD_SIZE || size > 2 * MAX_RECORD_SIZE
+					|| channel.size() < 2L * size) {
+				channel.close();
+				throw new IOException("Not an account store of version " + VERSION + ": " + file);
+			}
+			slotSize = size;
+			capacity = (int) Math.min((channel.size() - slotSize) / slotSize, maxSlots());
+		}
+		recordSize = slotSize / 2;
+		record = ByteBuffer.allocate(recordSize);
+		mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+		if (created) {
+			mapped.putInt(0, MAGIC);
+			mapped.putInt(4, VERSION);
+			mapped.putInt(8, slotSize);
+			mapped.force();
+		}
+		sequences = new int[capacity];
+		scan();
+	}
+
+	/**
+	 * Get the smallest record size that holds an account
+	 *
+	 * @param name, the user name
+	 * @param password, the password, may be null
+	 * @return int, a power of two from DEFAULT_RECORD_SIZE up
+	 * @throws IllegalArgumentException if the name or password is too long for
+	 *                                  MAX_RECORD_SIZE
+	 */
+	public static int recordSizeFor(String name, String password) {
+		int nameBytes = name.getBytes(StandardCharsets.UTF_8).length;
+		int passwordBytes = password == null ? 0 : password.getBytes(StandardCharsets.UTF_8).length;
+		if (nameBytes > MAX_STRING_BYTES || passwordBytes > MAX_STRING_BYTES) {
+			throw new IllegalArgumentException("Name or password too long to store: " + name);
+		}
+		int size = DEFAULT_RECORD_SIZE;
+		while (size < NAME + nameBytes + passwordBytes) {
+			size *= 2;
+		}
+		return size;
+	}
+
+	/**
+	 * Check a name and password fit in a record of this file
+	 *
+	 * @param name, the user name
+	 * @param password, the password, may be null
+	 * @return boolean, true if the account can be stored
+	 */
+	public boolean fits(String name, String password) {
+		return recordSizeFor(name, password) <= recordSize;
+	}
+
+	/**
+	 * Get the record size of this file
+	 *
+	 * @return int, the bytes of one copy of a slot
+	 */
+	public int getRecordSize() {
+		return recordSize;
+	}
+
+	/**
+	 * Get the accounts that were in the file when it was opened. The map is not
+	 * changed by put or delete.
+	 *
+	 * @return HashMap, user names to credentials
+	 */
+	public synchronized HashMap<String, Credentials> getLoadedAccounts() {
+		return loaded;
+	}
+
+	/**
+	 * Save an account in its slot, or in a free slot if it is new
+	 *
+	 * @param name, the user name
+	 * @param user, the credentials to save
+	 * @throws IOException if the file has to grow and cannot
+	 */
+	public synchronized void put(String name, Credentials user) throws IOException {
+		if (!fits(name, user.getPassword())) {
+			throw new IllegalArgumentException("Name or password too long to store: " + name);
+		}
+		Integer slot = slots.get(name);
+		if (slot == null) {
+			if (freeSlots.isEmpty()) {
+				grow();
+			}
+			slot = freeSlots.poll();
+			slots.put(name, slot);
+		}
+		encode(record, name, user);
+		writeRecord(slot);
+	}
+
+	/**
+	 * Write a new store file holding accounts, without mapping it, e.g. to
+	 * build a store next to its final place and move it there once complete
+	 *
+	 * @param file, the Path of the file, replaced if it exists
+	 * @param accounts, user names to credentials
+	 * @param recordSize, the record size, a power of two from
+	 *                    DEFAULT_RECORD_SIZE to MAX_RECORD_SIZE that every
+	 *                    account fits
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path file, Map<String, Credentials> accounts, int recordSize) throws IOException {
+		if (Integer.bitCount(recordSize) != 1 || recordSize < DEFAULT_RECORD_SIZE || recordSize > MAX_RECORD_SIZE) {
+			throw new IllegalArgumentException("Not a record size: " + recordSize);
+		}
+		int slotSize = 2 * recordSize;
+		long capacity = INITIAL_SLOTS;
+		while (capacity < accounts.size()) {
+			capacity *= 2;
+		}
+		if (capacity > (Integer.MAX_VALUE - slotSize) / slotSize) {
+			throw new IOException("Too many accounts for one store: " + accounts.size());
+		}
+		ByteBuffer record = ByteBuffer.allocate(recordSize);
+		CRC32 crc = new CRC32();
+		try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(12);
+			header.putInt(MAGIC).putInt(VERSION).putInt(slotSize).flip();
+			writeFully(out, header, 0);
+			// the first copy of slot after slot, the second copies stay empty
+			long offset = slotSize;
+			for (Map.Entry<String, Credentials> entry : accounts.entrySet()) {
+				if (recordSizeFor(entry.getKey(), entry.getValue().getPassword()) > recordSize) {
+					throw new IllegalArgumentException("Name or password too long to store: " + entry.getKey());
+				}
+				encode(record, entry.getKey(), entry.getValue());
+				seal(record, crc, 0);
+				record.clear();
+				writeFully(out, record, offset);
+				offset += slotSize;
+			}
+			// the free slots after them read as zeros
+			writeFully(out, ByteBuffer.allocate(1), slotSize + capacity * slotSize - 1);
+			out.force(true);
+		}
+	}
+
+	/**
+	 * Helper method to fill a record with an account
+	 *
+	 * @param record, the record buffer, big enough for the account
+	 * @param name, the user name
+	 * @param user, the credentials
+	 */
+	private static void encode(ByteBuffer record, String name, Credentials user) {
+		Arrays.fill(record.array(), (byte) 0);
+		record.put(IN_USE, (byte) 1);
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		record.putShort(NAME_LENGTH, (short) nameBytes.length);
+		record.put(NAME, nameBytes);
+		if (user.getPassword() == null) {
+			record.putShort(PASSWORD_LENGTH, (short) NO_PASSWORD);
+		} else {
+			byte[] passwordBytes = user.getPassword().getBytes(StandardCharsets.UTF_8);
+			record.putShort(PASSWORD_LENGTH, (short) passwordBytes.length);
+			record.put(NAME + nameBytes.length, passwordBytes);
+		}
+		record.putInt(PLAYED, user.getNumGamesPlayed());
+		record.putInt(WON, user.getNumGamesWon());
+		record.putInt(CURRENT_STREAK, user.getCurrentWinningStreak());
+		record.putInt(MAX_STREAK, user.getMaxWinningStreak());
+		int[] distribution = user.getGuessDistribution();
+		for (int i = 0; i < MAX_GUESSES; i++) {
+			record.putInt(DISTRIBUTION + 4 * i, distribution[i]);
+		}
+		LocalDate login = user.getLastLoginDate();
+		record.putLong(LOGIN, login == null ? NO_LOGIN : login.toEpochDay());
+	}
+
+	/**
+	 * Helper method to set the sequence number and checksum of a record
+	 *
+	 * @param record, the record buffer
+	 * @param crc, the checksum to reuse
+	 * @param sequence, the sequence number, even for the first copy
+	 */
+	private static void seal(ByteBuffer record, CRC32 crc, int sequence) {
+		record.putInt(SEQUENCE, sequence);
+		crc.reset();
+		crc.update(record.array(), SEQUENCE, record.capacity() - SEQUENCE);
+		record.putInt(CRC, (int) crc.getValue());
+	}
+
+	/**
+	 * Helper method to write a whole buffer at a position of a file
+	 *
+	 * @param out, the file
+	 * @param buffer, the bytes from its position to its limit
+	 * @param offset, where in the file
+	 * @throws IOException if the file cannot be written
+	 */
+	private static void writeFully(FileChannel out, ByteBuffer buffer, long offset) throws IOException {
+		while (buffer.hasRemaining()) {
+			offset += out.write(buffer, offset);
+		}
+	}
+
+	/**
+	 * Delete an account and free its slot
+	 *
+	 * @param name, the user name
+	 */
+	public synchronized void delete(String name) {
+		Integer slot = slots.remove(name);
+		if (slot != null) {
+			Arrays.fill(record.array(), (byte) 0);
+			writeRecord(slot);
+			freeSlots.add(slot);
+		}
+	}
+
+	/**
+	 * Get the number of accounts
+	 *
+	 * @return int, the number of used slots
+	 */
+	public synchronized int size() {
+		return slots.size();
+	}
+
+	/**
+	 * Get the number of slots in the file
+	 *
+	 * @return int, the number of slots
+	 */
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Force the slots written since the last sync to disk
+	 */
+	public synchronized void sync() {
+		if (dirtyFrom < dirtyTo) {
+			mapped.force(dirtyFrom, dirtyTo - dirtyFrom);
+			dirtyFrom = Integer.MAX_VALUE;
+			dirtyTo = 0;
+		}
+	}
+
+	/**
+	 * Sync and close the store
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel.isOpen()) {
+			sync();
+			channel.close();
+		}
+	}
+
+	/**
+	 * Helper method to write record to the copy of a slot that is not current,
+	 * with the next sequence number and its checksum
+	 *
+	 * @param slot, the slot to write
+	 */
+	private void writeRecord(int slot) {
+		int sequence = sequences[slot] + 1;
+		seal(record, crc, sequence);
+
+		int offset = recordOffset(slot, sequence & 1);
+		mapped.put(offset, record.array());
+		sequences[slot] = sequence;
+		dirtyFrom = Math.min(dirtyFrom, offset);
+		dirtyTo = Math.max(dirtyTo, offset + recordSize);
+	}
+
+	/**
+	 * Helper method to read every slot, keeping the current copy of each
+	 */
+	private void scan() {
+		byte[] bytes = new byte[recordSize];
+		for (int slot = 0; slot < capacity; slot++) {
+			int current = -1;
+			int currentOffset = -1;
+			for (int copy = 0; copy < 2; copy++) {
+				int offset = recordOffset(slot, copy);
+				mapped.get(offset, bytes);
+				crc.reset();
+				crc.update(bytes, SEQUENCE, recordSize - SEQUENCE);
+				int sequence = mapped.getInt(offset + SEQUENCE);
+				if (mapped.getInt(offset + CRC) == (int) crc.getValue() && (sequence & 1) == copy
+						&& sequence > current) {
+					current = sequence;
+					currentOffset = offset;
+				}
+			}
+			sequences[slot] = current;
+			if (currentOffset < 0 || mapped.get(currentOffset + IN_USE) != 1 || !load(slot, currentOffset)) {
+				freeSlots.add(slot);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to load the account in a record
+	 *
+	 * @param slot, the slot of the record
+	 * @param offset, the offset of the record
+	 * @return boolean, true if loaded, false if the name is already taken or
+	 *         the lengths don't fit the record
+	 */
+	private boolean load(int slot, int offset) {
+		int nameLength = mapped.getShort(offset + NAME_LENGTH) & 0xFFFF;
+		int passwordLength = mapped.getShort(offset + PASSWORD_LENGTH) & 0xFFFF;
+		if (NAME + nameLength + (passwordLength == NO_PASSWORD ? 0 : passwordLength) > recordSize) {
+			return false;
+		}
+		String name = readString(offset + NAME, nameLength);
+		if (slots.containsKey(name)) {
+			return false;
+		}
+		Credentials user = new Credentials();
+		user.setPassword(passwordLength == NO_PASSWORD ? null : readString(offset + NAME + nameLength, passwordLength));
+		user.setNumGamesPlayed(mapped.getInt(offset + PLAYED));
+		user.setNumGamesWon(mapped.getInt(offset + WON));
+		user.setCurrentWinningStreak(mapped.getInt(offset + CURRENT_STREAK));
+		user.setMaxWinningStreak(mapped.getInt(offset + MAX_STREAK));
+		int[] distribution = user.getGuessDistribution();
+		for (int i = 0; i < MAX_GUESSES; i++) {
+			distribution[i] = mapped.getInt(offset + DISTRIBUTION + 4 * i);
+		}
+		long login = mapped.getLong(offset + LOGIN);
+		user.setLastLoginDate(login == NO_LOGIN ? null : LocalDate.ofEpochDay(login));
+		slots.put(name, slot);
+		loaded.put(name, user);
+		return true;
+	}
+
+	private String readString(int offset, int length) {
+		byte[] bytes = new byte[length];
+		mapped.get(offset, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Helper method to double the number of slots and map the bigger file
+	 *
+	 * @throws IOException if the file cannot grow
+	 */
+	private void grow() throws IOException {
+		int grown = (int) Math.min((long) capacity * 2, maxSlots());
+		if (grown <= capacity) {
+			throw new IOException("Account store is full");
+		}
+		sync();
+		// mapping past the end of the file extends it; the old mapping is
+		// released when it is garbage collected
+		mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(grown));
+		sequences = Arrays.copyOf(sequences, grown);
+		Arrays.fill(sequences, capacity, grown, -1);
+		for (int slot = capacity; slot < grown; slot++) {
+			freeSlots.add(slot);
+		}
+		capacity = grown;
+	}
+
+	private int recordOffset(int slot, int copy) {
+		return slotSize + slot * slotSize + copy * recordSize;
+	}
+
+	private long fileSize(int slots) {
+		return slotSize + (long) slots * slotSize;
+	}
+
+	/**
+	 * Helper method to get the most slots that fit in one mapping
+	 *
+	 * @return int, the number of slots
+	 */
+	private int maxSlots() {
+		return (Integer.MAX_VALUE - slotSize) / slotSize;
+	}
+}
@@ -0,0 +1,81 @@
+package model;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: PackedWord.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Helpers for packing a five letter word into a single int. Each
+ * letter takes 5 bits (a = 0 ... z = 25) with the first letter in the highest
+ * bits, so comparing two packed words gives the same order as comparing the
+ * lower case strings.
+ */
+public final class PackedWord {
+
+	/**
+	 * Number of letters in a Wordle word
+	 */
+	public static final int WORD_LENGTH = 5;
+
+	/**
+	 * Number of letters in the alphabet
+	 */
+	public static final int ALPHABET_SIZE = 26;
+
+	/**
+	 * Returned by pack when the text is not a five letter word
+	 */
+	public static final int INVALID = -1;
+
+	private static final int BITS_PER_LETTER = 5;
+	private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+
+	private PackedWord() {
+	}
+
+	/**
+	 * Pack a word into an int. Upper and lower case letters pack the same way.
+	 * 
+	 * @param word, the CharSequence to pack
+	 * @return int, the packed word or INVALID if word is not five letters a-z
+	 */
+	public static int pack(CharSequence word) {
+		if (word == null || word.length() != WORD_LENGTH) {
+			return INVALID;
+		}
+		int packed = 0;
+		for (int i = 0; i < WORD_LENGTH; i++) {
+			// setting bit 0x20 folds 'A'-'Z' onto 'a'-'z'
+			int letter = (word.charAt(i) | 0x20) - 'a';
+			if (letter < 0 || letter >= ALPHABET_SIZE) {
+				return INVALID;
+			}
+			packed = (packed << BITS_PER_LETTER) | letter;
+		}
+		return packed;
+	}
+
+	/**
+	 * Get the letter at a position of a packed word
+	 * 
+	 * @param packed, the packed word
+	 * @param position, the position of the letter (0-4)
+	 * @return int, the letter index where a = 0 and z = 25
+	 */
+	public static int letterAt(int packed, int position) {
+		return (packed >>> ((WORD_LENGTH - 1 - position) * BITS_PER_LETTER)) & LETTER_MASK;
+	}
+
+	/**
+	 * Turn a packed word back into a lower case String
+	 * 
+	 * @param packed, the packed word
+	 * @return String, the lower case word
+	 */
+	public static String unpack(int packed) {
+		char[] letters = new char[WORD_LENGTH];
+		for (int i = 0; i < WORD_LENGTH; i++) {
+			letters[i] = (char) ('a' + letterAt(packed, i));
+		}
+		return new String(letters);
+	}
+}
@@ -0,0 +1,282 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: RankingTree.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Keeps every user ranked by number of games won. Users with the same
+ * number of wins are ranked by name, so the order never depends on hashing.
+ * The ranking is an order statistic treap (a binary search tree balanced by
+ * random priorities, where every node knows the size of its subtree), so
+ * changing a user's wins, finding a user's rank and finding the user at a rank
+ * each take O(log n), and a page of k users takes O(log n + k).
+ */
+public class RankingTree {
+
+	/**
+	 * A ranked user
+	 */
+	public static final class Entry {
+		private final String name;
+		private final int wins;
+
+		private Entry(String name, int wins) {
+			this.name = name;
+			this.wins = wins;
+		}
+
+		/**
+		 * Get the user name
+		 *
+		 * @return String, the user name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Get the number of games won
+		 *
+		 * @return int, the number of wins
+		 */
+		public int getWins() {
+			return wins;
+		}
+	}
+
+	private static final class Node {
+		final String name;
+		final int wins;
+		final int priority;
+		int size = 1;
+		Node left;
+		Node right;
+
+		Node(String name, int wins) {
+			this.name = name;
+			this.wins = wins;
+			this.priority = ThreadLocalRandom.current().nextInt();
+		}
+	}
+
+	private Node root;
+
+	/**
+	 * Wins each user is ranked by, to find their node again
+	 */
+	private final HashMap<String, Integer> rankedWins = new HashMap<>();
+
+	/**
+	 * Set the number of wins of a user, adding the user if needed
+	 *
+	 * @param name, the user name
+	 * @param wins, the number of games won
+	 */
+	public synchronized void update(String name, int wins) {
+		Integer old = rankedWins.put(name, wins);
+		if (old != null) {
+			if (old == wins) {
+				return;
+			}
+			root = remove(root, name, old);
+		}
+		Node[] parts = split(root, name, wins);
+		root = merge(merge(parts[0], new Node(name, wins)), parts[1]);
+	}
+
+	/**
+	 * Remove a user from the ranking
+	 *
+	 * @param name, the user name
+	 */
+	public synchronized void remove(String name) {
+		Integer old = rankedWins.remove(name);
+		if (old != null) {
+			root = remove(root, name, old);
+		}
+	}
+
+	/**
+	 * Get the number of ranked users
+	 *
+	 * @return int, the number of users
+	 */
+	public synchronized int size() {
+		return rankedWins.size();
+	}
+
+	/**
+	 * Get the rank of a user
+	 *
+	 * @param name, the user name
+	 * @return int, the rank starting at 0 for the leader, or -1 if not ranked
+	 */
+	public synchronized int rankOf(String name) {
+		Integer wins = rankedWins.get(name);
+		if (wins == null) {
+			return -1;
+		}
+		int rank = 0;
+		Node node = root;
+		while (node != null) {
+			int cmp = compare(name, wins, node);
+			if (cmp == 0) {
+				return rank + size(node.left);
+			}
+			if (cmp < 0) {
+				node = node.left;
+			} else {
+				rank += size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the users at ranks from to from + count - 1
+	 *
+	 * @param from, the first rank, 0 for the leader
+	 * @param count, the most users to return
+	 * @return List, the users in rank order, shorter than count at the end
+	 */
+	public synchronized List<Entry> page(int from, int count) {
+		ArrayList<Entry> page = new ArrayList<>(Math.max(0, Math.min(count, size() - from)));
+		collect(root, Math.max(from, 0), count, page);
+		return page;
+	}
+
+	/**
+	 * Get the leaders
+	 *
+	 * @param count, the most users to return
+	 * @return List, the first count users in rank order
+	 */
+	public List<Entry> top(int count) {
+		return page(0, count);
+	}
+
+	/**
+	 * Helper method to compare a user to a node, in rank order
+	 *
+	 * @param name, the user name
+	 * @param wins, the user's wins
+	 * @param node, the node to compare to
+	 * @return int, negative if the user ranks before the node, 0 if it is the node
+	 */
+	private static int compare(String name, int wins, Node node) {
+		if (wins != node.wins) {
+			return wins > node.wins ? -1 : 1;
+		}
+		return name.compareTo(node.name);
+	}
+
+	private static int size(Node node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static Node update(Node node) {
+		node.size = 1 + size(node.left) + size(node.right);
+		return node;
+	}
+
+	/**
+	 * Helper method to split a tree into the users ranked before a user and the
+	 * rest
+	 *
+	 * @param node, the root of the tree
+	 * @param name, the user name
+	 * @param wins, the user's wins
+	 * @return Node[], the two trees
+	 */
+	private static Node[] split(Node node, String name, int wins) {
+		if (node == null) {
+			return new Node[2];
+		}
+		if (compare(name, wins, node) > 0) {
+			Node[] parts = split(node.right, name, wins);
+			node.right = parts[0];
+			parts[0] = update(node);
+			return parts;
+		}
+		Node[] parts = split(node.left, name, wins);
+		node.left = parts[1];
+		parts[1] = update(node);
+		return parts;
+	}
+
+	/**
+	 * Helper method to join two trees where every user in left ranks before
+	 * every user in right
+	 *
+	 * @param left, the first tree
+	 * @param right, the second tree
+	 * @return Node, the root of the joined tree
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			return update(left);
+		}
+		right.left = merge(left, right.left);
+		return update(right);
+	}
+
+	/**
+	 * Helper method to remove a user's node from a tree
+	 *
+	 * @param node, the root of the tree
+	 * @param name, the user name
+	 * @param wins, the wins the user is ranked by
+	 * @return Node, the root of the tree without the user
+	 */
+	private static Node remove(Node node, String name, int wins) {
+		if (node == null) {
+			return null;
+		}
+		int cmp = compare(name, wins, node);
+		if (cmp == 0) {
+			return merge(node.left, node.right);
+		}
+		if (cmp < 0) {
+			node.left = remove(node.left, name, wins);
+		} else {
+			node.right = remove(node.right, name, wins);
+		}
+		return update(node);
+	}
+
+	/**
+	 * Helper method to add the users of a tree in rank order, skipping the first
+	 * skip and stopping once page has count users
+	 *
+	 * @param node, the root of the tree
+	 * @param skip, the number of users to skip
+	 * @param count, the size the page should reach
+	 * @param page, where the users are added
+	 */
+	private static void collect(Node node, int skip, int count, List<Entry> page) {
+		if (node == null || page.size() >= count) {
+			return;
+		}
+		int leftSize = size(node.left);
+		if (skip < leftSize) {
+			collect(node.left, skip, count, page);
+		}
+		if (page.size() < count && skip <= leftSize) {
+			page.add(new Entry(node.name, node.wins));
+		}
+		collect(node.right, Math.max(0, skip - leftSize - 1), count, page);
+	}
+}
@@ -0,0 +1,226 @@
+package model;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordImage.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Binary image of a loaded WordList, so later starts read the
+ * packed words and the lookup index in one go instead of parsing the text
+ * files. The file is
+ *
+ *   header   magic "WDLW", version, stamp (long), answer count, word count,
+ *            crc32 of the body
+ *   body     packed words, sorted packed words, position of each sorted word
+ *
+ * with every number a big endian int. The stamp identifies the text files the
+ * image was made from (name, size and modification time of each), so editing
+ * a word list makes the image stale and it is rebuilt. WordList.open writes
+ * the image on the first run; main writes it ahead of time, e.g. as a build
+ * step. Run from the folder that holds the word lists.
+ *
+ * Usage: java model.WordImage [answers=wordle-answers.txt]
+ *        [guesses=valid-wordle-words.txt] [image=wordlist.bin]
+ */
+public final class WordImage {
+
+	/**
+	 * File format version, bump when the layout changes
+	 */
+	public static final int VERSION = 1;
+
+	private static final int MAGIC = 0x57444C57; // "WDLW"
+	private static final int HEADER_SIZE = 28;
+
+	private WordImage() {
+	}
+
+	/**
+	 * Main method to write the image of the word lists
+	 *
+	 * @param args, optional answers=, guesses= and image= file names
+	 * @throws IOException if the lists can't be read or the image written
+	 */
+	public static void main(String[] args) throws IOException {
+		String answers = "wordle-answers.txt";
+		String guesses = "valid-wordle-words.txt";
+		String image = "wordlist.bin";
+		for (String arg : args) {
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("answers=")) {
+				answers = value;
+			} else if (arg.startsWith("guesses=")) {
+				guesses = value;
+			} else if (arg.startsWith("image=")) {
+				image = value;
+			} else {
+				System.out.println("Unknown setting " + arg);
+				return;
+			}
+		}
+		WordList words = WordList.load(answers, guesses);
+		write(Paths.get(image), words, stamp(answers, guesses));
+		System.out.println("Wrote " + image + ": " + words.size() + " words, " + words.getAnswerCount() + " answers");
+	}
+
+	/**
+	 * Identify the versions of word list files. A file in the working directory
+	 * counts with its size and modification time, a file on the classpath with
+	 * its URL, and a missing file counts as missing.
+	 *
+	 * @param files, the file names, null entries are allowed
+	 * @return long, a hash that changes when any of the files changes
+	 * @throws IOException if a file's attributes can't be read
+	 */
+	public static long stamp(String... files) throws IOException {
+		// no string concatenation here, its first use costs a cold JVM tens of ms
+		long hash = 0xcbf29ce484222325L;
+		for (String file : files) {
+			if (file == null) {
+				hash = mix(hash, 0);
+				continue;
+			}
+			hash = mix(hash, file);
+			Path path = Paths.get(file);
+			if (Files.isRegularFile(path)) {
+				hash = mix(hash, Files.size(path));
+				hash = mix(hash, Files.getLastModifiedTime(path).toMillis());
+			} else {
+				URL resource = WordImage.class.getResource("/".concat(file));
+				if (resource == null) {
+					resource = WordImage.class.getResource("/resources/".concat(file));
+				}
+				hash = resource == null ? mix(hash, -1) : mix(hash, resource.toString());
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Helper method to add a number to an FNV-1a hash
+	 *
+	 * @param hash, the hash so far
+	 * @param value, the number
+	 * @return long, the new hash
+	 */
+	private static long mix(long hash, long value) {
+		for (int i = 0; i < Long.BYTES; i++) {
+			hash = (hash ^ ((value >>> (i * 8)) & 0xFF)) * 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Helper method to add a string to an FNV-1a hash
+	 *
+	 * @param hash, the hash so far
+	 * @param value, the string
+	 * @return long, the new hash
+	 */
+	private static long mix(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+		}
+		// the length keeps "ab" + "c" apart from "a" + "bc"
+		return mix(hash, value.length());
+	}
+
+	/**
+	 * Write the image of a word list. The file is written next to target first
+	 * and moved into place when complete, so a crash never leaves half a file.
+	 *
+	 * @param target, the Path of the image
+	 * @param words, the loaded words
+	 * @param stamp, the stamp of the files the words came from
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path target, WordList words, long stamp) throws IOException {
+		int[] packedWords = words.getPackedWords();
+		int[] packedIndex = words.getPackedIndex();
+		int[] indexPositions = words.getIndexPositions();
+		ByteBuffer body = ByteBuffer.allocate(packedWords.length * 3 * Integer.BYTES);
+		IntBuffer ints = body.asIntBuffer();
+		ints.put(packedWords).put(packedIndex).put(indexPositions);
+		CRC32 crc = new CRC32();
+		crc.update(body.array());
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putInt(VERSION).putLong(stamp).putInt(words.getAnswerCount())
+				.putInt(packedWords.length).putInt((int) crc.getValue()).flip();
+
+		Path absolute = target.toAbsolutePath();
+		Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer[] parts = { header, body };
+			while (header.hasRemaining() || body.hasRemaining()) {
+				channel.write(parts);
+			}
+		}
+		Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Read an image and check it. The whole file is read with one call and the
+	 * arrays are bulk copied out of it; at this size that is faster on a cold
+	 * JVM than memory mapping, whose first use costs about 20 ms of setup.
+	 *
+	 * @param source, the Path of the image
+	 * @param stamp, the stamp of the files the words must come from
+	 * @return WordList, the words or null if the image is missing or was made
+	 *         from other files
+	 * @throws IOException if the image can't be read or is damaged
+	 */
+	public static WordList read(Path source, long stamp) throws IOException {
+		File file = source.toFile();
+		if (!file.isFile()) {
+			return null;
+		}
+		byte[] bytes;
+		try (FileInputStream in = new FileInputStream(file)) {
+			bytes = in.readAllBytes();
+		}
+		if (bytes.length < HEADER_SIZE) {
+			throw new IOException("Word image too short");
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Not a word image of version " + VERSION);
+		}
+		if (buffer.getLong(8) != stamp) {
+			return null;
+		}
+		int answerCount = buffer.getInt(16);
+		int wordCount = buffer.getInt(20);
+		if (wordCount < 0 || answerCount < 0 || answerCount > wordCount
+				|| bytes.length != HEADER_SIZE + (long) wordCount * 3 * Integer.BYTES) {
+			throw new IOException("Word image has the wrong size");
+		}
+		CRC32 crc = new CRC32();
+		crc.update(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+		if ((int) crc.getValue() != buffer.getInt(24)) {
+			throw new IOException("Word image checksum mismatch");
+		}
+
+		// bulk copies, nothing to parse
+		IntBuffer ints = buffer.position(HEADER_SIZE).asIntBuffer();
+		int[] packedWords = new int[wordCount];
+		int[] packedIndex = new int[wordCount];
+		int[] indexPositions = new int[wordCount];
+		ints.get(packedWords).get(packedIndex).get(indexPositions);
+		return new WordList(packedWords, answerCount, packedIndex, indexPositions);
+	}
+}
@@ -0,0 +1,390 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordList.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: An immutable loaded word list. Holds the packed words in file
+ * order, the sorted lookup index for isValidWord and the structures built
+ * from them (candidate masks, feedback matrix and daily schedule). Words are
+ * only turned back into Strings when asked for. open skips parsing the text
+ * files by reading a WordImage of the packed words and index.
+ * Nothing in it changes after loading, so any number of games on any number
+ * of threads can share one WordList.
+ *
+ * The words that can be answers come first and the words that can only be
+ * guessed after them, so indexes 0 to getAnswerCount() - 1 are the answers
+ * and every index is a valid guess. Everything that only looks at answers
+ * (candidate masks, matrix columns, random and daily words) scans the short
+ * prefix, and an answer's index is the same in all of them.
+ */
+public final class WordList {
+
+	/**
+	 * Source of version numbers, one per WordList made
+	 */
+	private static final AtomicLong VERSIONS = new AtomicLong();
+
+	/**
+	 * A word list with no words, used before a dictionary is initialized
+	 */
+	public static final WordList EMPTY = new WordList(new int[0], 0);
+
+	/**
+	 * Cache file for the feedback matrix, next to the word list
+	 */
+	private static final String MATRIX_CACHE_FILE = "feedback-matrix.bin";
+
+	/**
+	 * Tells this list apart from lists loaded before or after it
+	 */
+	private final long version = VERSIONS.incrementAndGet();
+
+	/**
+	 * The packed words, answers first
+	 */
+	private final int[] packedWords;
+
+	/**
+	 * The first answerCount words are the answers
+	 */
+	private final int answerCount;
+
+	/**
+	 * The words as Strings, unpacked the first time each is asked for. Two
+	 * threads may unpack the same word; both store an equal String.
+	 */
+	private final String[] words;
+
+	/**
+	 * Sorted packed words without duplicates, and the position in words of each
+	 */
+	private final int[] packedIndex;
+	private final int[] indexPositions;
+
+	/**
+	 * Built the first time they are asked for
+	 */
+	private volatile CandidateMasks candidateMasks;
+	private volatile FeedbackMatrix feedbackMatrix;
+	private volatile DailySchedule dailySchedule;
+
+	/**
+	 * Constructor for WordList, builds the lookup index
+	 *
+	 * @param packedWords, packed words without duplicates, answers first, the
+	 *                     array is kept as is
+	 * @param answerCount, the number of answers at the start of packedWords
+	 */
+	private WordList(int[] packedWords, int answerCount) {
+		this.packedWords = packedWords;
+		this.answerCount = answerCount;
+		words = new String[packedWords.length];
+
+		// packed words use 25 bits, so the position fits in the low half
+		long[] keyed = new long[packedWords.length];
+		for (int i = 0; i < keyed.length; i++) {
+			keyed[i] = ((long) packedWords[i] << 32) | i;
+		}
+		Arrays.sort(keyed);
+		packedIndex = new int[keyed.length];
+		indexPositions = new int[keyed.length];
+		for (int i = 0; i < keyed.length; i++) {
+			packedIndex[i] = (int) (keyed[i] >>> 32);
+			indexPositions[i] = (int) keyed[i];
+		}
+	}
+
+	/**
+	 * Constructor for WordList with the lookup index already built, used by
+	 * WordImage
+	 *
+	 * @param packedWords, packed words without duplicates, answers first
+	 * @param answerCount, the number of answers at the start of packedWords
+	 * @param packedIndex, packedWords sorted
+	 * @param indexPositions, the position in packedWords of each of packedIndex
+	 */
+	WordList(int[] packedWords, int answerCount, int[] packedIndex, int[] indexPositions) {
+		this.packedWords = packedWords;
+		this.answerCount = answerCount;
+		this.packedIndex = packedIndex;
+		this.indexPositions = indexPositions;
+		words = new String[packedWords.length];
+	}
+
+	/**
+	 * Load a word list file with one word per line where every word can be the
+	 * answer. Lines that are not five letter words are skipped.
+	 *
+	 * @param filename, the name of the word list file
+	 * @return WordList, the loaded words
+	 * @throws IOException if the file cannot be read
+	 */
+	public static WordList load(String filename) throws IOException {
+		return load(null, filename);
+	}
+
+	/**
+	 * Load an answer list and a guess list, each a file with one word per line.
+	 * Every answer can also be guessed, whether or not the guess list has it.
+	 * A file is read from the working directory, or from the classpath (at the
+	 * root or in resources) when it isn't there. Lines that are not five letter
+	 * words and words already loaded are skipped.
+	 *
+	 * @param answerFile, the name of the answer list, or null (or a file that
+	 *                    can't be found) to let every guess be the answer
+	 * @param guessFile, the name of the guess list
+	 * @return WordList, the loaded words
+	 * @throws IOException if the guess list cannot be found or a file cannot be
+	 *                     read
+	 */
+	public static WordList load(String answerFile, String guessFile) throws IOException {
+		ArrayList<Integer> words = new ArrayList<>();
+		HashSet<Integer> loaded = new HashSet<>();
+		BufferedReader answers = answerFile == null ? null : open(answerFile);
+		if (answers != null) {
+			readWords(answers, words, loaded);
+		}
+		BufferedReader guesses = open(guessFile);
+		if (guesses == null) {
+			throw new FileNotFoundException(guessFile);
+		}
+		int answerCount = answers != null ? words.size() : -1;
+		readWords(guesses, words, loaded);
+		int[] packedWords = new int[words.size()];
+		for (int i = 0; i < packedWords.length; i++) {
+			packedWords[i] = words.get(i);
+		}
+		return new WordList(packedWords, answerCount < 0 ? packedWords.length : answerCount);
+	}
+
+	/**
+	 * Open the word lists through their binary image. When imageFile was written
+	 * for the same files it is read and nothing is parsed; otherwise
+	 * the lists are loaded with load and the image is written for the next
+	 * start.
+	 *
+	 * @param answerFile, the name of the answer list, or null, see load
+	 * @param guessFile, the name of the guess list
+	 * @param imageFile, the name of the binary image
+	 * @return WordList, the loaded words
+	 * @throws IOException if the words can't be loaded, see load
+	 */
+	public static WordList open(String answerFile, String guessFile, String imageFile) throws IOException {
+		long stamp = WordImage.stamp(answerFile, guessFile);
+		Path image = Paths.get(imageFile);
+		try {
+			WordList fromImage = WordImage.read(image, stamp);
+			if (fromImage != null) {
+				return fromImage;
+			}
+		} catch (IOException e) {
+			// damaged image, write a new one below
+		}
+		WordList loaded = load(answerFile, guessFile);
+		try {
+			WordImage.write(image, loaded, stamp);
+		} catch (IOException e) {
+			// keep going without an image, the next start parses the lists again
+			e.printStackTrace();
+		}
+		return loaded;
+	}
+
+	/**
+	 * Helper method to open a word file in the working directory or on the
+	 * classpath
+	 *
+	 * @param filename, the name of the file
+	 * @return BufferedReader, the file or null if it can't be found
+	 * @throws IOException if the file exists but can't be opened
+	 */
+	private static BufferedReader open(String filename) throws IOException {
+		Path path = Paths.get(filename);
+		if (Files.isRegularFile(path)) {
+			return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+		}
+		InputStream resource = WordList.class.getResourceAsStream("/" + filename);
+		if (resource == null) {
+			resource = WordList.class.getResourceAsStream("/resources/" + filename);
+		}
+		return resource == null ? null : new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Helper method to add the new five letter words of a file and close it
+	 *
+	 * @param file, the open file
+	 * @param words, where the packed words are added
+	 * @param loaded, the packed words added so far, updated
+	 * @throws IOException if the file cannot be read
+	 */
+	private static void readWords(BufferedReader file, ArrayList<Integer> words, HashSet<Integer> loaded)
+			throws IOException {
+		try {
+			String word = file.readLine();
+			while (word != null) {
+				int packed = PackedWord.pack(word);
+				if (packed != PackedWord.INVALID && loaded.add(packed)) {
+					words.add(packed);
+				}
+				word = file.readLine();
+			}
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Get the number of words
+	 *
+	 * @return int, the number of words
+	 */
+	public int size() {
+		return packedWords.length;
+	}
+
+	/**
+	 * Get the number of words that can be answers, the words at indexes 0 to
+	 * getAnswerCount() - 1
+	 *
+	 * @return int, the number of answers
+	 */
+	public int getAnswerCount() {
+		return answerCount;
+	}
+
+	/**
+	 * Getter for the version, higher for lists loaded later
+	 *
+	 * @return long, the version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Get a word
+	 *
+	 * @param index, the position of the word, answers first
+	 * @return String, the word in lower case
+	 */
+	public String getWord(int index) {
+		String word = words[index];
+		if (word == null) {
+			word = PackedWord.unpack(packedWords[index]);
+			words[index] = word;
+		}
+		return word;
+	}
+
+	/**
+	 * Get a word in packed form
+	 *
+	 * @param index, the position of the word, answers first
+	 * @return int, the packed word
+	 */
+	public int getPackedWord(int index) {
+		return packedWords[index];
+	}
+
+	/**
+	 * Find the position of a packed word
+	 *
+	 * @param packedWord, the packed word to find
+	 * @return int, the position of the word, or -1 if it is not in the list
+	 */
+	public int indexOf(int packedWord) {
+		if (packedWord == PackedWord.INVALID) {
+			return -1;
+		}
+		int found = Arrays.binarySearch(packedIndex, packedWord);
+		return found >= 0 ? indexPositions[found] : -1;
+	}
+
+	/**
+	 * Getters for WordImage, the arrays are not copied
+	 */
+	int[] getPackedWords() {
+		return packedWords;
+	}
+
+	int[] getPackedIndex() {
+		return packedIndex;
+	}
+
+	int[] getIndexPositions() {
+		return indexPositions;
+	}
+
+	/**
+	 * Get the candidate masks for the answers
+	 *
+	 * @return CandidateMasks, the masks for CandidateTracker
+	 */
+	public CandidateMasks getCandidateMasks() {
+		CandidateMasks masks = candidateMasks;
+		if (masks == null) {
+			synchronized (this) {
+				if (candidateMasks == null) {
+					candidateMasks = new CandidateMasks(Arrays.copyOf(packedWords, answerCount));
+				}
+				masks = candidateMasks;
+			}
+		}
+		return masks;
+	}
+
+	/**
+	 * Get the calendar of daily words for the answers
+	 *
+	 * @return DailySchedule, the word index for every day
+	 */
+	public DailySchedule getDailySchedule() {
+		DailySchedule schedule = dailySchedule;
+		if (schedule == null) {
+			synchronized (this) {
+				if (dailySchedule == null) {
+					dailySchedule = new DailySchedule(answerCount);
+				}
+				schedule = dailySchedule;
+			}
+		}
+		return schedule;
+	}
+
+	/**
+	 * Get the feedback matrix for the words, a row for every word and a column
+	 * for every answer. The first call maps the cache file, or starts computing
+	 * it if the word list changed since it was written.
+	 *
+	 * @return FeedbackMatrix, the patterns for every guess and answer
+	 */
+	public FeedbackMatrix getFeedbackMatrix() {
+		FeedbackMatrix matrix = feedbackMatrix;
+		if (matrix == null) {
+			synchronized (this) {
+				if (feedbackMatrix == null) {
+					feedbackMatrix = FeedbackMatrix.open(Paths.get(MATRIX_CACHE_FILE), packedWords,
+							Arrays.copyOf(packedWords, answerCount));
+				}
+				matrix = feedbackMatrix;
+			}
+		}
+		return matrix;
+	}
+}
@@ -0,0 +1,119 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordListWatcher.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Watches a folder for changes to some files and runs an action on
+ * its own daemon thread once they stop changing. WordleDictionary uses it to
+ * reload the word lists while the program runs: the new WordList is built on
+ * the watcher thread, so games being played never wait for it.
+ *
+ * An editor or copy usually writes a file in several steps, so after the
+ * first event the watcher waits until QUIET_MILLIS pass without another one
+ * and then runs the action once.
+ */
+public final class WordListWatcher implements AutoCloseable {
+
+	private static final long QUIET_MILLIS = 200;
+
+	private final WatchService watcher;
+	private final Path folder;
+	private final Set<String> names;
+	private final Runnable onChange;
+	private final Thread thread;
+
+	/**
+	 * Constructor for WordListWatcher, starts watching right away
+	 *
+	 * @param folder, the folder that holds the files
+	 * @param names, the file names to watch in folder
+	 * @param onChange, run on the watcher thread after the files changed
+	 * @throws IOException if the folder can't be watched
+	 */
+	public WordListWatcher(Path folder, Set<String> names, Runnable onChange) throws IOException {
+		this.folder = folder;
+		this.names = names;
+		this.onChange = onChange;
+		watcher = FileSystems.getDefault().newWatchService();
+		folder.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		thread = new Thread(this::watch, "word-list-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stop watching
+	 *
+	 * @throws IOException if the watch service can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		watcher.close();
+	}
+
+	/**
+	 * Helper method run on the watcher thread until close
+	 */
+	private void watch() {
+		try {
+			while (true) {
+				if (!isWatchedChange(watcher.take())) {
+					continue;
+				}
+				// wait for the writes to settle
+				WatchKey next;
+				while ((next = watcher.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					isWatchedChange(next);
+				}
+				try {
+					onChange.run();
+				} catch (RuntimeException e) {
+					// keep watching, the next change may work
+					e.printStackTrace();
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// closed
+		}
+	}
+
+	/**
+	 * Helper method to read the events of a key and reset it
+	 *
+	 * @param key, the signalled key
+	 * @return boolean, true if a watched file changed
+	 */
+	private boolean isWatchedChange(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			// OVERFLOW has no file name, anything may have changed
+			Object context = event.context();
+			if (context == null || names.contains(context.toString())) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	/**
+	 * Getter for the watched folder
+	 *
+	 * @return Path, the folder
+	 */
+	public Path getFolder() {
+		return folder;
+	}
+}
@@ -1,5 +1,10 @@
 package model;
 
+import java.time.LocalDate;
+import java.util.Random;
+
+import model.solver.EntropySolver;
+
 /***
  * 
  * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
@@ -7,20 +12,29 @@ package model;
  * This is the wordle class for the model and will ultimately serve as the game master.
  * 
  * Responsibilities:
- *  - set up the game's dictionary and random word
+ *  - set up the game's dictionary and random word, or the daily word of a date
  *  - direct guess to the class to process them then relay the results obtained from that class
  *  - manage the game (determine if the game is still running/keep guess count/etc)
  *
+ * Every Wordle is its own game with no state shared with other games, and its
+ * methods are synchronized, so simulations can run many games on many threads.
+ * The dictionary, candidates and keyboard are only reached through those
+ * methods; what they hand out are copies or immutable word lists.
+ *
  */
 
 
 public class Wordle {
 	
+	/***
+	 * The number of guesses a player gets
+	 */
+	public static final int MAX_GUESSES = 6;
 	
 	/***
 	 * This is the class that will check the correction of a guess
 	 */
-	public WordleDictionary wordCorrectionChecker = new WordleDictionary();;
+	private final WordleDictionary wordCorrectionChecker = new WordleDictionary();
 	
 	/***
 	 * MAY BE REMOVED
@@ -34,6 +48,22 @@ public class Wordle {
 	 */
 	private int guessCount;
 	
+	/***
+	 * Counts the games started, so work queued for one game can tell that a
+	 * new game has started since
+	 */
+	private int gameNumber;
+	
+	/***
+	 * The answers that are still possible after the guesses so far
+	 */
+	private CandidateTracker candidates;
+	
+	/***
+	 * The best known status of every letter after the guesses so far
+	 */
+	private final KeyboardState keyboard = new KeyboardState();
+	
 	/***
 	 * Check if the game is won
 	 */
@@ -68,6 +98,7 @@ public class Wordle {
 	public Wordle() {
 		//initialize the wordle dictionary
 		wordCorrectionChecker.initialize();
+		candidates = new CandidateTracker(wordCorrectionChecker.getCandidateMasks());
 		//start the game
 		startGame();
 	}
@@ -75,11 +106,49 @@ public class Wordle {
 	/***
 	 * This will be used to start a game of wordle. 
 	 */
-	public void startGame() {
+	public synchronized void startGame() {
+		refreshWords();
 		//get a random word from wordle dictionary
 		wordCorrectionChecker.setWord();		
+		resetGame();
+	}
+	
+	/***
+	 * Start the daily puzzle of a date. Every player gets the same word on the
+	 * same date, see DailySchedule.
+	 * 
+	 * @param date, the date of the puzzle
+	 */
+	public synchronized void startDailyGame(LocalDate date) {
+		refreshWords();
+		wordCorrectionChecker.setDailyWord(date);
+		resetGame();
+	}
+	
+	/***
+	 * Helper method to switch to the newest word list before a new game. A
+	 * game in progress keeps the list it started with even if the files are
+	 * reloaded, see WordleDictionary.reload.
+	 */
+	private void refreshWords() {
+		WordList before = wordCorrectionChecker.getWordList();
+		wordCorrectionChecker.initialize();
+		if (wordCorrectionChecker.getWordList() != before) {
+			candidates = new CandidateTracker(wordCorrectionChecker.getCandidateMasks());
+		}
+	}
+	
+	/***
+	 * Helper method to start over once the word is set
+	 */
+	private void resetGame() {
+		gameNumber++;
 		//Start the guess count over, or set it to zero if a game has not happened yet
 		guessCount = 0;
+		//Every word can be the answer again
+		candidates.reset();
+		//Every letter is unused again
+		keyboard.reset();
 		
 		//Set the game to show it is running
 		isStillRunning = true;
@@ -93,21 +162,156 @@ public class Wordle {
 	 * @param guess, String containing the guess letters
 	 * @return int[], the guess status
 	 */
-	public int[] makeGuess(String guess) {
+	public synchronized int[] makeGuess(String guess) {
+		return Feedback.decode(makeGuessPacked(guess));
+	}
+	
+	/***
+	 * make guess and return the packed pattern instead of a status array
+	 * 
+	 * @param guess, the guess letters in any case
+	 * @return int, the pattern from Feedback.score (read with Feedback.statusAt)
+	 */
+	public synchronized int makeGuessPacked(CharSequence guess) {
+		int packedGuess = PackedWord.pack(guess);
+		if (packedGuess == PackedWord.INVALID) {
+			throw new IllegalArgumentException("Guess must be five letters: " + guess);
+		}
+		//check the guess for GUI
+		int pattern = wordCorrectionChecker.checkAccuracyPacked(packedGuess);
+		//narrow down the possible answers for hints
+		candidates.narrow(packedGuess, pattern);
+		//color the letters of the guess on the keyboard
+		keyboard.apply(packedGuess, pattern);
 		//increase guess count
 		guessCount++;
-		//check the guess for GUI
-		guess = guess.toLowerCase();
-		int[] guessStatus = wordCorrectionChecker.checkAccuracy(guess);
 		//check if the guess was right to determine if the game is still running
 		if (wordCorrectionChecker.isGuessCorrect()) {
 			isStillRunning = false;
 			isWon = true;
-		} else if (guessCount == 6) {
+		} else if (guessCount == MAX_GUESSES) {
 			isStillRunning = false;
 		}
-		//return the guess status
-		return guessStatus;
+		//return the guess pattern
+		return pattern;
+	}
+	
+	/***
+	 * Getter for the number of guesses made in the current game
+	 * 
+	 * @return int, the guesses so far
+	 */
+	public synchronized int getGuessCount() {
+		return guessCount;
+	}
+	
+	/***
+	 * Hint for the player. Works out which words are still possible from the
+	 * guesses so far and suggests the guess expected to narrow them down the most.
+	 * Only copying the candidates holds the game; the scan of every word runs
+	 * after, so guesses on other threads don't wait for it.
+	 * 
+	 * @return String, the suggested guess, or null if the game is over
+	 */
+	public String suggestNextGuess() {
+		WordList words;
+		int[] remaining;
+		synchronized (this) {
+			if (!isStillRunning) {
+				return null;
+			}
+			words = wordCorrectionChecker.getWordList();
+			remaining = candidates.toArray();
+		}
+		int suggestion = EntropySolver.suggestGuess(words, remaining);
+		return suggestion < 0 ? null : words.getWord(suggestion);
+	}
+	
+	/***
+	 * Check a guess for hard mode, where every guess has to use the hints given
+	 * so far.
+	 * 
+	 * @param guess, the guess letters in any case
+	 * @return boolean, true if the guess could be the answer given the guesses so far
+	 */
+	public synchronized boolean isConsistentGuess(CharSequence guess) {
+		int packedGuess = PackedWord.pack(guess);
+		return packedGuess != PackedWord.INVALID && candidates.isConsistent(packedGuess);
+	}
+	
+	/***
+	 * getter for the number of words that can still be the answer
+	 * 
+	 * @return int, the number of possible answers left
+	 */
+	public synchronized int getRemainingCandidateCount() {
+		return candidates.getRemainingCount();
+	}
+	
+	/***
+	 * Getter for the number of the current game
+	 * 
+	 * @return int, changes every time a game starts
+	 */
+	public synchronized int getGameNumber() {
+		return gameNumber;
+	}
+	
+	/***
+	 * Pick one of the words that can still be the answer
+	 * 
+	 * @param random, the Random to pick with
+	 * @return int, the word list index of the candidate, or -1 if there is none
+	 */
+	public synchronized int randomCandidate(Random random) {
+		int remaining = candidates.getRemainingCount();
+		return remaining == 0 ? -1 : candidates.nthCandidate(random.nextInt(remaining));
+	}
+	
+	/***
+	 * getter for the keyboard colors of the game
+	 * 
+	 * @return KeyboardState, a copy of the best known status of every letter
+	 */
+	public synchronized KeyboardState getKeyboardState() {
+		return new KeyboardState(keyboard);
+	}
+	
+	/***
+	 * getter for the word of the game
+	 * 
+	 * @return String, the answer
+	 */
+	public synchronized String getWord() {
+		return wordCorrectionChecker.getWord();
+	}
+	
+	/***
+	 * setter for the word of the current game for testing purposes
+	 * 
+	 * @param word, the answer
+	 */
+	public synchronized void setWord(String word) {
+		wordCorrectionChecker.setWord(word);
+	}
+	
+	/***
+	 * Check a guess is a word of the game's list, otherwise it can't be made
+	 * 
+	 * @param word, the guess letters in any case
+	 * @return boolean, true if the word is in the list
+	 */
+	public synchronized boolean isValidWord(CharSequence word) {
+		return wordCorrectionChecker.isValidWord(word);
+	}
+	
+	/***
+	 * getter for the word list of the current game
+	 * 
+	 * @return WordList, the immutable list the candidates are indexes of
+	 */
+	public synchronized WordList getWordList() {
+		return wordCorrectionChecker.getWordList();
 	}
 	
 	/***
@@ -115,7 +319,7 @@ public class Wordle {
 	 * 
 	 * @return - true if the game is not over, false otherwise
 	 */
-	public boolean checkGameRunning() {
+	public synchronized boolean checkGameRunning() {
 		return isStillRunning;
 	}
 	
@@ -124,7 +328,7 @@ public class Wordle {
 	 * 
 	 * @return - true if the game is won, false otherwise
 	 */
-	public boolean checkGameWon() {
+	public synchronized boolean checkGameWon() {
 		return isWon;
 	}
 	
@@ -1,11 +1,9 @@
 package model;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
@@ -15,14 +13,16 @@ import java.util.HashMap;
  * methods that allow users to create new account. It contains methods for
  * authenticating user credentials. The credentials are saved in a log file 
  * and retrieved to authenticate accounts.
+ * 
+ * The accounts themselves live in the shared AccountRepository, which loads
+ * them once; a WordleAccount is the logged in user's view of it.
  */
 public class WordleAccount {
-	private final static String FILENAME = "credentials.ser";
 	private LocalDate today;
 
 	private boolean isAccountAuthenticated;
 	private String userName;
-	private HashMap<String, Credentials> credentials;
+	private final AccountRepository accounts;
 	private LocalDate lastLoginDate;
 	// private Alert alert = new Alert(AlertType.ERROR);
 
@@ -39,48 +39,31 @@ public class WordleAccount {
 		this.userName = name;
 		today = LocalDate.now();
 
-		// retrieve persistent account information from credentials file
-		credentials = readCredentialsFromFile(FILENAME);
+		// accounts are loaded once and shared by every WordleAccount
+		accounts = AccountRepository.getInstance();
 
 		if (newAccount == true) {
-			// check if user already has an account
-			if (credentials.containsKey(name)) {
-				// alert.setHeaderText("User " + name + " already exists!");
-				// alert.showAndWait();
-			} else {
-				Credentials user = new Credentials();
-				user.setPassword(password);
-				user.setLastLoginDate(null);
-				user.setNumGamesPlayed(0);
-				credentials.put(name, user);
-
+			// create the account unless the user already has one
+			if (accounts.createAccount(name, password)) {
 				// When making new account, account is authenticated
 				isAccountAuthenticated = true;
-
-				// store new account information to credentials file
-				writeCredentialsToFile(credentials, FILENAME);
+			} else {
+				// alert.setHeaderText("User " + name + " already exists!");
+				// alert.showAndWait();
 			}
 		} else {
 			// not a new account so verify credentials are valid
-			if (credentials.containsKey(name)) {
-				if (!credentials.get(name).getPassword().equals(password)) {
-					// alert.setHeaderText("Password invalid for user " + name);
-					// alert.showAndWait();
-
-					isAccountAuthenticated = false;
-				} else {
-					isAccountAuthenticated = true;
+			if (accounts.authenticate(name, password)) {
+				isAccountAuthenticated = true;
 
-					Credentials user = credentials.get(name);
-					lastLoginDate = user.getLastLoginDate();
+				lastLoginDate = accounts.get(name).getLastLoginDate();
 
-					// user logged in for the first time after account created
-					if (lastLoginDate == null) {
-						lastLoginDate = currentDate;
-					}
+				// user logged in for the first time after account created
+				if (lastLoginDate == null) {
+					lastLoginDate = currentDate;
 				}
 			} else {
-				// alert.setHeaderText("User " + name + " not found!");
+				// alert.setHeaderText("User " + name + " not found or password invalid");
 				// alert.showAndWait();
 				isAccountAuthenticated = false;
 			}
@@ -91,7 +74,7 @@ public class WordleAccount {
 	 * Default constructor for WordleAccount class
 	 */
 	public WordleAccount() {
-		credentials = readCredentialsFromFile(FILENAME);
+		accounts = AccountRepository.getInstance();
 	}
 
 	/**
@@ -101,19 +84,17 @@ public class WordleAccount {
 	 * @param guess, integer for number of guesses made
 	 */
 	public void updateStats(boolean isGameWon, int guess) {
-		credentials.get(userName).updateStats(isGameWon, guess);
-		
-		// persist credentials
-		writeCredentialsToFile(credentials, FILENAME);
+		accounts.recordGame(userName, isGameWon, guess);
 	}
 	
 	/**
 	 * Get statistics for the Wordle Account
 	 * 
-	 * @return Credentials, the credentials containing stats for the account
+	 * @return Credentials, a snapshot of the credentials containing stats for
+	 *         the account, see AccountRepository.get
 	 */
 	public Credentials getStats() {
-		return credentials.get(userName);
+		return accounts.get(userName);
 	}
 	
 	/**
@@ -121,19 +102,20 @@ public class WordleAccount {
 	 * 
 	 * @param user, the String representing the user name
 	 * 
-	 * @return Credentials, the credentials containing stats for the user
+	 * @return Credentials, a snapshot of the credentials containing stats for
+	 *         the user
 	 */
 	public Credentials getStats(String user) {
-		return credentials.get(user);
+		return accounts.get(user);
 	}
 	
 	/**
 	 * Get all users of Wordle game
 	 * 
-	 * @return HashMap, the HashMap containing user and statistics
+	 * @return Map, read only map of every user and their statistics
 	 */
-	public HashMap<String, Credentials> getAllUsers() {
-		return credentials;
+	public Map<String, Credentials> getAllUsers() {
+		return accounts.getAllUsers();
 	}
 	
 	/**
@@ -144,47 +126,30 @@ public class WordleAccount {
 	public String toString() {
 		String str = "";
 		str += "\nUser: " + userName;
-		str += credentials.get(userName);
+		str += accounts.get(userName);
 		return str;
 	}
 	
 	/**
-	 * Reset statistics for all user accounts
+	 * Delete the accounts created by the JUnit tests
 	 */
 	public void deleteJUnitTestAccounts() {
-
-		// retrieve persistent account information from credentials file
-		HashMap<String, Credentials> userCreds = readCredentialsFromFile(
-				FILENAME);
-
-		HashMap<String, Credentials> userCreds2 = new HashMap<>();
-		
-		for(String name: userCreds.keySet()) {
-			if(!name.contains("JUnitTestAccount:")) {
-				userCreds2.put(name, userCreds.get(name));
+		for (String name : accounts.getAllUsers().keySet()) {
+			if (name.contains("JUnitTestAccount:")) {
+				accounts.deleteAccount(name);
 			}
 		}
-		writeCredentialsToFile(userCreds2, FILENAME);
 	}
 
 	/**
 	 * Reset statistics for all user accounts
 	 */
 	public void resetStatsForJUnitTestUsers() {
-
-		// retrieve persistent account information from credentials file
-		HashMap<String, Credentials> userCreds = readCredentialsFromFile(
-				FILENAME);
-
-		for (String name : userCreds.keySet()) {
-			if(name.contains("JUnitTestAccount:")) {
-				Credentials creds = userCreds.get(name);
-				creds.setNumGamesPlayed(0);
-				userCreds.put(name, creds);
+		for (String name : accounts.getAllUsers().keySet()) {
+			if (name.contains("JUnitTestAccount:")) {
+				accounts.updateStats(name, creds -> creds.setNumGamesPlayed(0));
 			}
 		}
-
-		writeCredentialsToFile(userCreds, FILENAME);
 	}
 
 	/**
@@ -199,11 +164,12 @@ public class WordleAccount {
 
 
 	/**
-	 * Read serialized credentials from file
+	 * Read credentials from a file written by writeCredentialsToFile
 	 * 
 	 * @param filename, the String filename for reading credentials
 	 * 
-	 * @return HashMap, the HashMap with credentials
+	 * @return HashMap, the HashMap with credentials, empty if the file is
+	 *         missing or damaged
 	 */
 	public HashMap<String, Credentials> readCredentialsFromFile(
 			String filename) {
@@ -211,17 +177,7 @@ public class WordleAccount {
 		HashMap<String, Credentials> readCredentials = new HashMap<>();
 
 		try {
-			FileInputStream rawBytes = new FileInputStream(filename);
-
-			// Read the file
-			ObjectInputStream inFile = new ObjectInputStream(rawBytes);
-
-			// Read one serialized object from file
-			readCredentials = (HashMap<String, Credentials>) inFile
-					.readObject();
-
-			inFile.close();
-
+			readCredentials = CredentialsCodec.load(Paths.get(filename));
 		} catch (Exception e) {
 			// Exception can occur for the first time
 		}
@@ -230,7 +186,7 @@ public class WordleAccount {
 	}
 
 	/**
-	 * Write serialized credentials to file
+	 * Write credentials to file in the CredentialsCodec format
 	 * 
 	 * @param hmap, the HashMap containing credentials
 	 * @param filename, the file name where credentials are to be written
@@ -239,17 +195,7 @@ public class WordleAccount {
 	public void writeCredentialsToFile(HashMap<String, Credentials> hmap,
 			String filename) {
 		try {
-
-			// Write serialized object to file
-			FileOutputStream bytesToDisk = new FileOutputStream(filename);
-			ObjectOutputStream outFile = new ObjectOutputStream(bytesToDisk);
-
-			// Make the object persist so it can be read later
-			outFile.writeObject(hmap);
-
-			// close the output file
-			outFile.close();
-
+			CredentialsCodec.save(hmap, Paths.get(filename));
 		} catch (Exception e) {
 			// Exception
 		}
@@ -268,6 +214,6 @@ public class WordleAccount {
 	 * Set Last login date
 	 */
 	public void setLastLogin() {
-		credentials.get(userName).setLastLoginDate(LocalDate.now());
+		accounts.recordLogin(userName, LocalDate.now());
 	}
-}
\ No newline at end of file
+}
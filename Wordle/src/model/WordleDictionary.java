@@ -1,9 +1,9 @@
 package model;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -15,17 +15,55 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class WordleDictionary {
 
+	/**
+	 * The guess list file, read from the working directory or the classpath
+	 */
+	private static final String WORD_FILE = "valid-wordle-words.txt";
+
+	/**
+	 * The answer list file, found the same way. Without it every valid guess
+	 * can be the answer.
+	 */
+	private static final String ANSWER_FILE = "wordle-answers.txt";
+
+	/**
+	 * Binary image of both lists, written on the first run and mapped after
+	 * that, see WordImage
+	 */
+	private static final String IMAGE_FILE = "wordlist.bin";
+
 	/**
 	 * This is the word that the user will be trying to guess
 	 */
 	private String wordOfTheDay;
 
+	/**
+	 * wordOfTheDay packed with PackedWord.pack
+	 */
+	private int packedWordOfTheDay = PackedWord.INVALID;
+
 	/**
 	 * A boolean to tell if the word was guessed of not. true if it is guessed.
 	 */
 	private boolean wordGuessed;
 
-	private static ArrayList<String> words = new ArrayList<>(); // All possible Wordle words.
+	/**
+	 * The newest loaded word list, shared by every dictionary. A WordList never
+	 * changes once loaded; reload swaps in a new one.
+	 */
+	private static volatile WordList loadedWords;
+
+	/**
+	 * Reloads the word lists when their files change, null until
+	 * watchForChanges
+	 */
+	private static WordListWatcher watcher;
+
+	/**
+	 * The word list this dictionary uses, kept until the next initialize call
+	 * so a game in progress never sees the list change
+	 */
+	private WordList words;
 
 	/**
 	 * CONSTRUCTOR
@@ -35,6 +73,9 @@ public class WordleDictionary {
 		wordGuessed = false;
 		// set the word of the day/game
 		wordOfTheDay = null;
+		// use the loaded words if another dictionary already loaded them
+		WordList loaded = loadedWords;
+		words = loaded != null ? loaded : WordList.EMPTY;
 	}
 
 	/**
@@ -42,8 +83,8 @@ public class WordleDictionary {
 	 * place after the dictionary is initialized.
 	 */
 	public void setWord() {
-		if (!words.isEmpty()) {
-			wordOfTheDay = getRandomWord();
+		if (words.size() > 0) {
+			setWord(getRandomWord());
 			
 			// Word injection for testing
 			// wordOfTheDay = "eater";
@@ -52,36 +93,159 @@ public class WordleDictionary {
 	}
 
 	/**
-	 * initialize function. Should be called when a Wordle instance is created;
-	 * duplicate calls won't do anything. Loads the valid wordle words into the
-	 * list.
+	 * Set the word to the daily word of a date, the same for every player. This
+	 * must only take place after the dictionary is initialized.
+	 * 
+	 * @param date, the date of the puzzle
+	 */
+	public void setDailyWord(LocalDate date) {
+		if (words.size() > 0) {
+			setWord(getDailyWord(date));
+		}
+	}
+
+	/**
+	 * Get the daily word of a date
+	 * 
+	 * @param date, the date of the puzzle
+	 * @return String, the word of that date
+	 */
+	public String getDailyWord(LocalDate date) {
+		return words.getWord(words.getDailySchedule().getWordIndex(date));
+	}
+
+	/**
+	 * initialize function. Should be called when a Wordle instance is created
+	 * and before each new game. Loads the answer list and the valid wordle words
+	 * into the list the first time; later calls switch to the newest list if
+	 * the files were reloaded since. Safe to call from several threads at once;
+	 * the files are read once.
 	 */
 	public void initialize() {
-		if (words.isEmpty()) {
-			try {
-				BufferedReader file = new BufferedReader(new FileReader("valid-wordle-words.txt"));
-				String word = file.readLine();
-
-				while (word != null) {
-					words.add(word);
-					word = file.readLine();
+		WordList loaded = loadedWords;
+		if (loaded == null) {
+			synchronized (WordleDictionary.class) {
+				loaded = loadedWords;
+				if (loaded == null) {
+					try {
+						loaded = WordList.open(ANSWER_FILE, WORD_FILE, IMAGE_FILE);
+						loadedWords = loaded;
+					} catch (IOException e) {
+						// leave loadedWords unset so the next call tries again
+						e.printStackTrace();
+						loaded = WordList.EMPTY;
+					}
 				}
-
-				file.close();
-			} catch (IOException e) {
-				e.printStackTrace();
 			}
 		}
+		words = loaded;
+	}
+
+	/**
+	 * Load the word lists again and make them the newest list. Games already
+	 * started keep their list; the indexes new games need are built here,
+	 * before the swap, so no game waits for them.
+	 * 
+	 * @return WordList, the new list, or null if the files can't be read (the
+	 *         old list stays in use)
+	 */
+	public static synchronized WordList reload() {
+		try {
+			WordList fresh = WordList.open(ANSWER_FILE, WORD_FILE, IMAGE_FILE);
+			fresh.getCandidateMasks();
+			fresh.getDailySchedule();
+			loadedWords = fresh;
+			return fresh;
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Start reloading the word lists whenever their files in the working
+	 * directory change. Duplicate calls won't do anything.
+	 */
+	public static synchronized void watchForChanges() {
+		if (watcher != null) {
+			return;
+		}
+		try {
+			watcher = new WordListWatcher(Paths.get("").toAbsolutePath(), Set.of(WORD_FILE, ANSWER_FILE),
+					WordleDictionary::reload);
+		} catch (IOException e) {
+			// keep the list loaded at startup
+			e.printStackTrace();
+		}
 	}
 
 	/**
 	 * getRandomWord function. Should be called when starting a game, to determine
-	 * the random word.
+	 * the random word. Only words of the answer list are picked.
 	 * 
 	 * @return String, the random word for the Wordle game
 	 */
 	public String getRandomWord() {
-		return words.get(ThreadLocalRandom.current().nextInt(0, words.size() - 1));
+		return words.getWord(ThreadLocalRandom.current().nextInt(words.getAnswerCount()));
+	}
+
+	/**
+	 * Get the number of words in the dictionary
+	 * 
+	 * @return int, the number of words
+	 */
+	public int getWordCount() {
+		return words.size();
+	}
+
+	/**
+	 * Get the number of words that can be answers. They are the words at
+	 * indexes 0 to getAnswerCount() - 1.
+	 * 
+	 * @return int, the number of answers
+	 */
+	public int getAnswerCount() {
+		return words.getAnswerCount();
+	}
+
+	/**
+	 * Get a word of the dictionary in packed form
+	 * 
+	 * @param index, the position of the word in the word list
+	 * @return int, the packed word
+	 */
+	public int getPackedWord(int index) {
+		return words.getPackedWord(index);
+	}
+
+	/**
+	 * Get the feedback matrix for the dictionary. Rows and columns use the same
+	 * indexes as getPackedWord. The first call maps the cache file, or starts
+	 * computing it if the word list changed since it was written.
+	 * 
+	 * @return FeedbackMatrix, the patterns for every guess and answer
+	 */
+	public FeedbackMatrix getFeedbackMatrix() {
+		return words.getFeedbackMatrix();
+	}
+
+	/**
+	 * Get the candidate masks for the dictionary. Bit i of each mask is the word
+	 * at index i.
+	 * 
+	 * @return CandidateMasks, the masks for CandidateTracker
+	 */
+	public CandidateMasks getCandidateMasks() {
+		return words.getCandidateMasks();
+	}
+
+	/**
+	 * Get the word list the dictionary uses
+	 * 
+	 * @return WordList, the loaded words
+	 */
+	public WordList getWordList() {
+		return words;
 	}
 
 	/**
@@ -91,7 +255,48 @@ public class WordleDictionary {
 	 * @return boolean, true if word is valid, false otherwise
 	 */
 	public boolean isValidWord(String word) {
-		return words.stream().anyMatch(test -> test.equalsIgnoreCase(word));
+		return isValidWord((CharSequence) word);
+	}
+
+	/**
+	 * isValidWord function for callers that already hold the letters in a
+	 * CharSequence (StringBuilder etc). Case is ignored.
+	 * 
+	 * @param word, CharSequence for the word to check
+	 * @return boolean, true if word is valid, false otherwise
+	 */
+	public boolean isValidWord(CharSequence word) {
+		return isValidWord(PackedWord.pack(word));
+	}
+
+	/**
+	 * isValidWord function for a word already packed with PackedWord.pack.
+	 * 
+	 * @param packedWord, the packed word to check
+	 * @return boolean, true if word is valid, false otherwise
+	 */
+	public boolean isValidWord(int packedWord) {
+		return indexOf(packedWord) >= 0;
+	}
+
+	/**
+	 * Find the position of a packed word in the word list
+	 * 
+	 * @param packedWord, the packed word to find
+	 * @return int, the index for getPackedWord, or -1 if the word is not valid
+	 */
+	public int indexOf(int packedWord) {
+		return words.indexOf(packedWord);
+	}
+
+	/**
+	 * Get a word of the dictionary
+	 * 
+	 * @param index, the position of the word in the word list
+	 * @return String, the word
+	 */
+	public String getWord(int index) {
+		return words.getWord(index);
 	}
 
 	/***
@@ -101,82 +306,41 @@ public class WordleDictionary {
 	 * 
 	 * @return - An Array of integers that will contain the information about the
 	 *         guess's characters and their locations using the following integers
+	 *         (1 right place, 0 wrong place, -1 not in the word)
 	 * 
 	 */
 	public int[] checkAccuracy(String guess) {
-		int[] guessCheck = new int[5];
-		for (int i = 0; i <= 4; i++) {
-			// if the character is in the right place
-			if (guess.charAt(i) == wordOfTheDay.charAt(i)) {
-				guessCheck[i] = 1;
-				// if the character is in the wrong place
-			} else if (wordOfTheDay.contains(guess.subSequence(i, i + 1))) {
-				guessCheck[i] = 0;
-			} else {
-				// if the character isn't in the word.
-				guessCheck[i] = -1;
-			}
-		}
-		
-		//	Scenario #1: 
-		//		Correct word is "stink" and guess is "iliac"
-		//		First I is in gray, second I is green background
-		
-		//	Scenario #2: 
-		//		Correct word is "eater" and guess is "lever"
-		//		First E is in yellow, second E is green background
-		
-		// 2nd pass
-		for (int i = 0; i <= 4; i++) {
-			if (guessCheck[i] == 1) {
-				if(getNumMatchingLetters(guess.charAt(i)) == 1) {
-					for (int j = 0; j <= 4; j++) {
-						if (guess.charAt(i) != guess.charAt(j)) {
-							continue;
-						}
-						if (guessCheck[j] == 0) {
-							guessCheck[j] = -1;
-						}
-					}
-				}
-			}
-		}
-		isGuessCorrect(guessCheck);
-		return guessCheck;
+		return Feedback.decode(checkAccuracyPacked(guess));
 	}
-	
-	/**
-	 * Helper method to count number of matching letters in word of the day
+
+	/***
+	 * Checks a user's guess and returns the pattern from Feedback.score without
+	 * building a status array. Use Feedback.statusAt or Feedback.decode to read
+	 * it.
 	 * 
-	 * @param letter, the character to count
-	 * @return int, the count of number of matching letters
+	 * @param guess - the guess from the user, any case
+	 * 
+	 * @return - the base 3 pattern for the guess (0-242)
 	 */
-	private int getNumMatchingLetters(char letter) {
-		int count = 0;
-		for (int i = 0; i <= 4; i++) {
-			if (wordOfTheDay.charAt(i) == letter) {
-				count++;
-			}
+	public int checkAccuracyPacked(CharSequence guess) {
+		int packedGuess = PackedWord.pack(guess);
+		if (packedGuess == PackedWord.INVALID) {
+			throw new IllegalArgumentException("Guess must be five letters: " + guess);
 		}
-		return count;
+		return checkAccuracyPacked(packedGuess);
 	}
 
 	/***
-	 * This will iterate through the guessCheck array of ints and determine if the
-	 * guess was correct, if so, then set the wordGuessed to true, false if not.
-	 * 
-	 * @param guessResults - an array of ints that represent the status of the
-	 *                     characters in the guess
-	 */
-	private void isGuessCorrect(int[] guessResults) {
-		// if any of the positions are not correct reutrn false
-		for (int i = 0; i <= 4; i++) {
-			if (guessResults[i] == 0 || guessResults[i] == -1) {
-				wordGuessed = false;
-				return;
-			}
-		}
-		wordGuessed = true;
+	 * Checks a guess that is already packed with PackedWord.pack
+	 * 
+	 * @param packedGuess - the packed guess
+	 * 
+	 * @return - the base 3 pattern for the guess (0-242)
+	 */
+	public int checkAccuracyPacked(int packedGuess) {
+		int pattern = Feedback.score(packedGuess, packedWordOfTheDay);
+		wordGuessed = pattern == Feedback.ALL_CORRECT;
+		return pattern;
 	}
 
 	/***
@@ -195,6 +359,7 @@ public class WordleDictionary {
 	 */
 	public void setWord(String word) {
 		wordOfTheDay = word;
+		packedWordOfTheDay = PackedWord.pack(word);
 	}
 
 	/***
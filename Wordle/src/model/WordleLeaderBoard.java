@@ -1,43 +1,35 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 
 /**
  * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
  * FILE: WordleLeaderBoard.java 
  * ASSIGNMENT: Final Project - Wordle
  * PURPOSE: This class implements the WordleLeaderBoard. This class contains
- * methods for retrieving game leaders.
+ * methods for retrieving game leaders. The ranking itself is kept up to date
+ * by AccountRepository, so creating a leader board does no work.
  */
 public class WordleLeaderBoard {
-	private ArrayList<String> leaders = new ArrayList<>();
-	private WordleAccount account = new WordleAccount();
+	private AccountRepository accounts;
+	private RankingTree ranking;
 
 	/**
 	 * Default constructor for the class
 	 */
 	public WordleLeaderBoard() {
-		String leader = "";
-		int maxWins = 0;
-		int numGamesWon = 0;
-		HashMap<String, Credentials> userHashMap = new HashMap<>(
-				account.getAllUsers());
+		this(AccountRepository.getInstance());
+	}
 
-		while (!userHashMap.isEmpty()) {
-			maxWins = 0;
-			numGamesWon = 0;
-			for (String user : userHashMap.keySet()) {
-				numGamesWon = userHashMap.get(user).getNumGamesWon();
-				if (numGamesWon >= maxWins) {
-					leader = user;
-					maxWins = numGamesWon;
-				}
-			}
-			leaders.add(leader + " >> " + maxWins + " games");
-			userHashMap.remove(leader);
-		}
-		System.out.println("\nLeaders: " + leaders);
+	/**
+	 * Constructor for a leader board of the accounts in a repository
+	 * 
+	 * @param accounts, the AccountRepository to rank
+	 */
+	public WordleLeaderBoard(AccountRepository accounts) {
+		this.accounts = accounts;
+		this.ranking = accounts.getRanking();
 	}
 
 	/**
@@ -46,7 +38,7 @@ public class WordleLeaderBoard {
 	 * @return ArrayList, list of leaders sorted by number of wins
 	 */
 	public ArrayList<String> getLeaders() {
-		return leaders;
+		return getPage(0, ranking.size());
 	}
 	
 	/***
@@ -56,22 +48,43 @@ public class WordleLeaderBoard {
 	 * 	the leader list
 	 */
 	public ArrayList<String> getFirstTen() {
-		ArrayList<String> retArray = new ArrayList<String>();
-		for (int i = 0; i <= 9; i++) {
-			if (i < leaders.size()) {
-				retArray.add(leaders.get(i));
-			}
+		return getPage(0, 10);
+	}
+
+	/**
+	 * Get one page of leaders
+	 * 
+	 * @param from, the rank of the first leader, 0 for the top
+	 * @param count, the number of leaders on the page
+	 * @return ArrayList, the leaders sorted by number of wins
+	 */
+	public ArrayList<String> getPage(int from, int count) {
+		List<RankingTree.Entry> entries = ranking.page(from, count);
+		ArrayList<String> page = new ArrayList<>(entries.size());
+		for (RankingTree.Entry entry : entries) {
+			page.add(entry.getName() + " >> " + entry.getWins() + " games");
 		}
-		return retArray;
+		return page;
+	}
+
+	/**
+	 * Get the rank of a user
+	 * 
+	 * @param user, String for the user
+	 * @return int, the rank starting at 1 for the leader, 0 if not found
+	 */
+	public int getRank(String user) {
+		return ranking.rankOf(user) + 1;
 	}
 	
 	/**
 	 * Get statistics for the specified user
 	 * 
 	 * @param user, String for the user
-	 * @return Credentials, the credentials containing stats for the user
+	 * @return Credentials, a snapshot of the credentials containing stats for
+	 *         the user
 	 */
 	public Credentials getStats(String user) {
-		return account.getStats(user);
+		return accounts.get(user);
 	}
 }
@@ -0,0 +1,17 @@
+package model.sim;
+
+import model.Wordle;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: EntropyStrategy.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Player that always takes the hint from Wordle.suggestNextGuess.
+ */
+public class EntropyStrategy implements PlayerStrategy {
+
+	@Override
+	public String nextGuess(Wordle game) {
+		return game.suggestNextGuess();
+	}
+}
@@ -0,0 +1,23 @@
+package model.sim;
+
+import model.Wordle;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: PlayerStrategy.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: A simulated player. The simulation calls nextGuess until the game
+ * is over. One strategy object is shared by every simulation thread, so
+ * implementations must be thread safe (keeping no state between calls is the
+ * easy way).
+ */
+public interface PlayerStrategy {
+
+	/**
+	 * Pick the next guess for a game
+	 * 
+	 * @param game, the running game
+	 * @return String, a five letter word from the game's dictionary
+	 */
+	String nextGuess(Wordle game);
+}
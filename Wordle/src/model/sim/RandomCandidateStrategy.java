@@ -0,0 +1,27 @@
+package model.sim;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import model.WordList;
+import model.Wordle;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: RandomCandidateStrategy.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Player that guesses a random word that can still be the answer.
+ * Cheap enough to simulate millions of games.
+ */
+public class RandomCandidateStrategy implements PlayerStrategy {
+
+	@Override
+	public String nextGuess(Wordle game) {
+		WordList words = game.getWordList();
+		int word = game.randomCandidate(ThreadLocalRandom.current());
+		if (word < 0) {
+			// only happens when the answer is not in the word list
+			return words.getWord(ThreadLocalRandom.current().nextInt(words.getAnswerCount()));
+		}
+		return words.getWord(word);
+	}
+}
@@ -0,0 +1,220 @@
+package model.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Wordle;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: SimulationRunner.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Headless runner that plays many games of Wordle without the GUI.
+ * The games are split between a fixed pool of threads, each playing its share
+ * with its own Wordle, and the runner prints games per second, the win rate
+ * and how many guesses the wins took. Run from the folder that holds
+ * valid-wordle-words.txt.
+ * 
+ * Usage: java model.sim.SimulationRunner [games=1000000] [threads=cores]
+ *        [strategy=random|entropy]
+ */
+public class SimulationRunner {
+
+	private final PlayerStrategy strategy;
+	private final int threads;
+
+	/**
+	 * Constructor for SimulationRunner
+	 * 
+	 * @param strategy, the player used for every game
+	 * @param threads, the number of threads to play on
+	 */
+	public SimulationRunner(PlayerStrategy strategy, int threads) {
+		this.strategy = strategy;
+		this.threads = threads;
+	}
+
+	/**
+	 * Main method for the simulation
+	 * 
+	 * @param args, optional games=, threads= and strategy= settings
+	 */
+	public static void main(String[] args) throws Exception {
+		long games = 1_000_000;
+		int threads = Runtime.getRuntime().availableProcessors();
+		PlayerStrategy strategy = new RandomCandidateStrategy();
+		for (String arg : args) {
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("games=")) {
+				games = Long.parseLong(value);
+			} else if (arg.startsWith("threads=")) {
+				threads = Integer.parseInt(value);
+			} else if (arg.equals("strategy=entropy")) {
+				strategy = new EntropyStrategy();
+			} else if (!arg.equals("strategy=random")) {
+				System.out.println("Unknown setting " + arg);
+				return;
+			}
+		}
+
+		// load the dictionary before timing starts
+		new Wordle();
+		System.out.println("Playing " + games + " games with " + strategy.getClass().getSimpleName() + " on "
+				+ threads + " threads");
+		long start = System.nanoTime();
+		Tally tally = new SimulationRunner(strategy, threads).run(games);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		tally.print(seconds);
+	}
+
+	/**
+	 * Play games and count the results
+	 * 
+	 * @param games, the number of games to play
+	 * @return Tally, the combined results of every thread
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 * @throws ExecutionException if a game threw an exception
+	 */
+	public Tally run(long games) throws InterruptedException, ExecutionException {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Tally>> parts = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				// spread the remainder over the first threads
+				long share = games / threads + (i < games % threads ? 1 : 0);
+				parts.add(pool.submit(() -> play(share)));
+			}
+			Tally total = new Tally();
+			for (Future<Tally> part : parts) {
+				total.add(part.get());
+			}
+			return total;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Helper method to play games on the calling thread
+	 * 
+	 * @param games, the number of games to play
+	 * @return Tally, the results
+	 */
+	private Tally play(long games) {
+		Tally tally = new Tally();
+		Wordle game = new Wordle();
+		for (long i = 0; i < games; i++) {
+			game.startGame();
+			int guesses = 0;
+			while (game.checkGameRunning()) {
+				game.makeGuessPacked(strategy.nextGuess(game));
+				guesses++;
+			}
+			tally.record(game.checkGameWon(), guesses);
+		}
+		return tally;
+	}
+
+	/**
+	 * Results of a run. wins[i] is the number of games won with i + 1 guesses.
+	 */
+	public static class Tally {
+		private final long[] wins = new long[Wordle.MAX_GUESSES];
+		private long losses;
+
+		/**
+		 * Count one game
+		 * 
+		 * @param won, true if the game was won
+		 * @param guesses, the number of guesses made
+		 */
+		void record(boolean won, int guesses) {
+			if (won) {
+				wins[guesses - 1]++;
+			} else {
+				losses++;
+			}
+		}
+
+		/**
+		 * Add the results of another tally to this one
+		 * 
+		 * @param other, the tally to add
+		 */
+		void add(Tally other) {
+			for (int i = 0; i < wins.length; i++) {
+				wins[i] += other.wins[i];
+			}
+			losses += other.losses;
+		}
+
+		/**
+		 * Get the number of games played
+		 * 
+		 * @return long, the number of games
+		 */
+		public long getGames() {
+			long games = losses;
+			for (long count : wins) {
+				games += count;
+			}
+			return games;
+		}
+
+		/**
+		 * Get the number of games won with a number of guesses
+		 * 
+		 * @param guesses, the number of guesses (1-6)
+		 * @return long, the number of games
+		 */
+		public long getWins(int guesses) {
+			return wins[guesses - 1];
+		}
+
+		/**
+		 * Get the number of games lost
+		 * 
+		 * @return long, the number of games
+		 */
+		public long getLosses() {
+			return losses;
+		}
+
+		/**
+		 * Print the results
+		 * 
+		 * @param seconds, how long the run took
+		 */
+		void print(double seconds) {
+			long games = getGames();
+			long won = games - losses;
+			long totalGuesses = 0;
+			for (int i = 0; i < wins.length; i++) {
+				totalGuesses += wins[i] * (i + 1);
+			}
+			System.out.printf("Games: %d in %.2f s (%.0f games/s)%n", games, seconds, games / seconds);
+			System.out.printf("Win rate: %.2f%%, average guesses per win: %.3f%n", 100.0 * won / games,
+					won == 0 ? 0.0 : (double) totalGuesses / won);
+			for (int i = 0; i < wins.length; i++) {
+				printBar("Guess " + (i + 1), wins[i], games);
+			}
+			printBar("Lost   ", losses, games);
+		}
+
+		/**
+		 * Helper method to print one histogram row
+		 * 
+		 * @param label, the row label
+		 * @param count, the number of games in the row
+		 * @param games, the total number of games
+		 */
+		private static void printBar(String label, long count, long games) {
+			int width = games == 0 ? 0 : (int) (50 * count / games);
+			System.out.printf("%s %10d %s%n", label, count, "#".repeat(width));
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package model.solver;
+
+import java.util.stream.IntStream;
+
+import model.CandidateTracker;
+import model.Feedback;
+import model.FeedbackMatrix;
+import model.WordList;
+import model.WordleDictionary;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: EntropySolver.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Suggests the next guess for a game. Every word in the dictionary
+ * is scored by the expected information (entropy) of the pattern it would get
+ * against the words that can still be the answer. Scoring is spread over the
+ * common fork-join pool with a parallel stream.
+ */
+public class EntropySolver {
+
+	private final WordleDictionary dictionary;
+
+	/**
+	 * The best opening guess never changes for a word list, so it is kept once
+	 * found, with the matrix it was found for. One object is published in one
+	 * write, so a guess is never paired with the matrix of another word list
+	 * (two lists exist at once after WordleDictionary.reload). null until the
+	 * first call.
+	 */
+	private static volatile OpeningGuess openingGuess;
+
+	/**
+	 * The best opening guess of one feedback matrix
+	 */
+	private static final class OpeningGuess {
+		private final FeedbackMatrix matrix;
+		private final int guess;
+
+		private OpeningGuess(FeedbackMatrix matrix, int guess) {
+			this.matrix = matrix;
+			this.guess = guess;
+		}
+	}
+
+	/**
+	 * Constructor for EntropySolver
+	 * 
+	 * @param dictionary, an initialized WordleDictionary
+	 */
+	public EntropySolver(WordleDictionary dictionary) {
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * Suggest the word that splits the candidates best
+	 * 
+	 * @param candidates, dictionary indexes of the possible answers
+	 * @return int, dictionary index of the suggested guess, or -1 if there are
+	 *         no candidates
+	 */
+	public int suggestGuess(int[] candidates) {
+		return suggestGuess(dictionary.getWordList(), candidates);
+	}
+
+	/**
+	 * Suggest the word of a word list that splits the candidates best. The
+	 * list doesn't change, so this can run while the dictionary moves on to
+	 * a reloaded list.
+	 * 
+	 * @param words, the word list the candidates are indexes of
+	 * @param candidates, word list indexes of the possible answers
+	 * @return int, word list index of the suggested guess, or -1 if there are
+	 *         no candidates
+	 */
+	public static int suggestGuess(WordList words, int[] candidates) {
+		if (candidates.length <= 2) {
+			// guessing a candidate is at least as good as anything else here
+			return candidates.length == 0 ? -1 : candidates[0];
+		}
+		FeedbackMatrix matrix = words.getFeedbackMatrix();
+		boolean opening = candidates.length == words.getAnswerCount();
+		OpeningGuess cached = openingGuess;
+		if (opening && cached != null && cached.matrix == matrix) {
+			return cached.guess;
+		}
+
+		double[] entropies = new double[words.size()];
+		IntStream.range(0, entropies.length).parallel()
+				.forEach(guess -> entropies[guess] = entropy(matrix, guess, candidates));
+
+		// a guess that could also be the answer wins a tie
+		boolean[] isCandidate = new boolean[entropies.length];
+		for (int candidate : candidates) {
+			isCandidate[candidate] = true;
+		}
+		int best = candidates[0];
+		for (int guess = 0; guess < entropies.length; guess++) {
+			if (entropies[guess] > entropies[best] || (entropies[guess] == entropies[best] && isCandidate[guess]
+					&& !isCandidate[best])) {
+				best = guess;
+			}
+		}
+
+		if (opening) {
+			openingGuess = new OpeningGuess(matrix, best);
+		}
+		return best;
+	}
+
+	/**
+	 * Suggest the next guess as a word
+	 * 
+	 * @param candidates, the possible answers of the game
+	 * @return String, the suggested word or null if no word fits the guesses so
+	 *         far
+	 */
+	public String suggestNextGuess(CandidateTracker candidates) {
+		WordList words = dictionary.getWordList();
+		int suggestion = suggestGuess(words, candidates.toArray());
+		return suggestion < 0 ? null : words.getWord(suggestion);
+	}
+
+	/**
+	 * Helper method to compute the entropy in bits of the patterns a guess gets
+	 * against the candidates
+	 * 
+	 * @param matrix, the feedback matrix of the dictionary
+	 * @param guess, dictionary index of the guess
+	 * @param candidates, dictionary indexes of the possible answers
+	 * @return double, the expected information of the guess
+	 */
+	private static double entropy(FeedbackMatrix matrix, int guess, int[] candidates) {
+		int[] bucketSizes = new int[Feedback.PATTERN_COUNT];
+		for (int candidate : candidates) {
+			bucketSizes[matrix.pattern(guess, candidate)]++;
+		}
+		// H = log2(n) - sum(c * log2(c)) / n over the non empty buckets
+		double sum = 0;
+		for (int size : bucketSizes) {
+			if (size > 1) {
+				sum += size * Math.log(size);
+			}
+		}
+		double total = candidates.length;
+		return (Math.log(total) - sum / total) / Math.log(2);
+	}
+}
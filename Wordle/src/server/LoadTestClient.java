@@ -0,0 +1,286 @@
+package server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import model.WordList;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: LoadTestClient.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Local load test for the WordleServer. Every simulated player
+ * creates an account and logs in first, so all their sessions are open on the
+ * server at once, then the players take turns playing games of random valid
+ * guesses. The players are split between a number of client threads, which
+ * decides how many requests are in flight. At the end the players delete
+ * their accounts, so they don't stay on the server's leader board, and the
+ * client prints requests per second and the latency percentiles. The deletes
+ * are not part of the timings. Run from the folder that holds
+ * valid-wordle-words.txt.
+ *
+ * Usage: java server.LoadTestClient [url=http://localhost:8080] [players=20000]
+ *        [games=1] [threads=64]
+ */
+public class LoadTestClient {
+
+	private static final String WORD_FILE = "valid-wordle-words.txt";
+
+	private final HttpClient client;
+	private final String url;
+	private final WordList words;
+
+	/**
+	 * Constructor for LoadTestClient
+	 *
+	 * @param url, the address of the server without a trailing slash
+	 * @param words, the words to guess from
+	 */
+	public LoadTestClient(String url, WordList words) {
+		this.url = url;
+		this.words = words;
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+	}
+
+	/**
+	 * Main method for the load test
+	 *
+	 * @param args, optional url=, players=, games= and threads= settings
+	 */
+	public static void main(String[] args) throws Exception {
+		String url = "http://localhost:8080";
+		int players = 20_000;
+		int games = 1;
+		int threads = 64;
+		for (String arg : args) {
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("url=")) {
+				url = value;
+			} else if (arg.startsWith("players=")) {
+				players = Integer.parseInt(value);
+			} else if (arg.startsWith("games=")) {
+				games = Integer.parseInt(value);
+			} else if (arg.startsWith("threads=")) {
+				threads = Integer.parseInt(value);
+			} else {
+				System.out.println("Unknown setting " + arg);
+				return;
+			}
+		}
+
+		LoadTestClient test = new LoadTestClient(url, WordList.load(WORD_FILE));
+		System.out.println("Playing " + games + " games each for " + players + " players on " + threads
+				+ " threads against " + url);
+		long start = System.nanoTime();
+		Tally tally = test.run(players, games, threads);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		tally.print(seconds);
+	}
+
+	/**
+	 * Run the load test
+	 *
+	 * @param players, the number of players, each with their own session
+	 * @param games, the games each player plays
+	 * @param threads, the number of client threads
+	 * @return Tally, the combined results of every thread
+	 * @throws InterruptedException if interrupted while waiting for the threads
+	 * @throws ExecutionException if a thread threw an exception
+	 */
+	public Tally run(int players, int games, int threads) throws InterruptedException, ExecutionException {
+		// names unique to this run so it can be repeated against the same accounts
+		String run = Long.toHexString(System.currentTimeMillis() & 0xFFFFFFFFL);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Tally>> parts = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				int first = i;
+				parts.add(pool.submit(() -> play(run, first, threads, players, games)));
+			}
+			Tally total = new Tally();
+			for (Future<Tally> part : parts) {
+				total.add(part.get());
+			}
+			return total;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Helper method to log in every step-th player starting at first and play
+	 * their games on the calling thread
+	 *
+	 * @param run, the name of this run
+	 * @param first, the first player
+	 * @param step, the step between players
+	 * @param players, the number of players
+	 * @param games, the games each player plays
+	 * @return Tally, the results
+	 */
+	private Tally play(String run, int first, int step, int players, int games) throws InterruptedException {
+		Tally tally = new Tally();
+		List<String> tokens = new ArrayList<>();
+		for (int player = first; player < players; player += step) {
+			String body = request(tally, "/create", "name=load-" + run + "-" + player + "&password=load");
+			if (body != null) {
+				tokens.add(field(body, "token"));
+			}
+		}
+		Random random = ThreadLocalRandom.current();
+		for (int game = 0; game < games; game++) {
+			for (String token : tokens) {
+				if (request(tally, "/start", "token=" + token) == null) {
+					continue;
+				}
+				String state = "playing";
+				while (state.equals("playing")) {
+					String word = words.getWord(random.nextInt(words.size()));
+					String body = request(tally, "/guess", "token=" + token + "&word=" + word);
+					if (body == null) {
+						break;
+					}
+					state = field(body, "state");
+				}
+				tally.games++;
+				if (state.equals("won")) {
+					tally.wins++;
+				}
+			}
+		}
+		for (String token : tokens) {
+			request(tally, "/stats", "token=" + token);
+		}
+		request(tally, "/leaderboard", "from=0&count=10");
+
+		// remove the accounts, counted apart from the measured requests
+		Tally cleanup = new Tally();
+		for (String token : tokens) {
+			request(cleanup, "/delete", "token=" + token);
+		}
+		tally.undeleted += cleanup.failures;
+		return tally;
+	}
+
+	/**
+	 * Helper method to send one request and time it
+	 *
+	 * @param tally, where the time and any failure are counted
+	 * @param path, the endpoint
+	 * @param query, the encoded query string
+	 * @return String, the body of the answer or null if it failed
+	 */
+	private String request(Tally tally, String path, String query) throws InterruptedException {
+		// GET keeps each request in one packet, a POST body sent after the
+		// headers can wait on delayed ACKs
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url + path + "?" + query)).GET().build();
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			tally.record(System.nanoTime() - start);
+			if (response.statusCode() == 200) {
+				return response.body();
+			}
+		} catch (IOException e) {
+			tally.record(System.nanoTime() - start);
+		}
+		tally.failures++;
+		return null;
+	}
+
+	/**
+	 * Helper method to read a string field from a flat JSON object
+	 *
+	 * @param json, the object
+	 * @param name, the field
+	 * @return String, the value or "" if it is missing
+	 */
+	private static String field(String json, String name) {
+		String key = "\"" + name + "\":\"";
+		int start = json.indexOf(key);
+		if (start < 0) {
+			return "";
+		}
+		start += key.length();
+		return json.substring(start, json.indexOf('"', start));
+	}
+
+	/**
+	 * Results of a run
+	 */
+	public static class Tally {
+		private long[] latencies = new long[1024];
+		private int requests;
+		private long failures;
+		private long games;
+		private long wins;
+		private long undeleted;
+
+		/**
+		 * Count one request
+		 *
+		 * @param nanos, how long the request took
+		 */
+		void record(long nanos) {
+			if (requests == latencies.length) {
+				latencies = Arrays.copyOf(latencies, requests * 2);
+			}
+			latencies[requests++] = nanos;
+		}
+
+		/**
+		 * Add the results of another tally to this one
+		 *
+		 * @param other, the tally to add
+		 */
+		void add(Tally other) {
+			for (int i = 0; i < other.requests; i++) {
+				record(other.latencies[i]);
+			}
+			failures += other.failures;
+			games += other.games;
+			wins += other.wins;
+			undeleted += other.undeleted;
+		}
+
+		/**
+		 * Print the results
+		 *
+		 * @param seconds, how long the run took
+		 */
+		public void print(double seconds) {
+			long[] sorted = Arrays.copyOf(latencies, requests);
+			Arrays.sort(sorted);
+			System.out.printf("%d requests in %.1f s, %.0f requests/s, %d failed%n", requests, seconds,
+					requests / seconds, failures);
+			System.out.printf("%d games, %d won%n", games, wins);
+			if (undeleted > 0) {
+				System.out.printf("%d load test accounts could not be deleted%n", undeleted);
+			}
+			if (requests > 0) {
+				System.out.printf("latency ms: p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+						percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+						percentile(sorted, 0.999), sorted[sorted.length - 1] / 1e6);
+			}
+		}
+
+		private static double percentile(long[] sorted, double fraction) {
+			int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+			return sorted[Math.max(0, index)] / 1e6;
+		}
+	}
+}
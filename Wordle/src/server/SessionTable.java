@@ -0,0 +1,147 @@
+package server;
+
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Wordle;
+import model.WordleAccount;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: SessionTable.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: The logged in players of the WordleServer, kept in memory and found
+ * by a random token handed out at login. Each session holds the player's
+ * WordleAccount and their game, which is only created when they start one.
+ * Sessions that have not been used for a while are removed by expire.
+ */
+public class SessionTable {
+
+	private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+	private final SecureRandom random = new SecureRandom();
+	private final long idleMillis;
+
+	/**
+	 * Constructor for SessionTable
+	 *
+	 * @param idleMillis, how long a session lives without being used
+	 */
+	public SessionTable(long idleMillis) {
+		this.idleMillis = idleMillis;
+	}
+
+	/**
+	 * Add a session for a logged in account
+	 *
+	 * @param account, the authenticated account
+	 * @return String, the token of the new session
+	 */
+	public String open(WordleAccount account) {
+		byte[] bytes = new byte[18];
+		random.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		sessions.put(token, new Session(account));
+		return token;
+	}
+
+	/**
+	 * Find a session and mark it as used
+	 *
+	 * @param token, the token from open
+	 * @return Session, the session or null if the token is unknown or expired
+	 */
+	public Session get(String token) {
+		if (token == null) {
+			return null;
+		}
+		Session session = sessions.get(token);
+		if (session != null) {
+			session.lastUsed = System.currentTimeMillis();
+		}
+		return session;
+	}
+
+	/**
+	 * Remove a session
+	 *
+	 * @param token, the token from open
+	 */
+	public void close(String token) {
+		if (token != null) {
+			sessions.remove(token);
+		}
+	}
+
+	/**
+	 * Remove every session not used within the idle time
+	 *
+	 * @return int, the number of sessions removed
+	 */
+	public int expire() {
+		long oldest = System.currentTimeMillis() - idleMillis;
+		int before = sessions.size();
+		sessions.values().removeIf(session -> session.lastUsed < oldest);
+		return before - sessions.size();
+	}
+
+	/**
+	 * Getter for the number of open sessions
+	 *
+	 * @return int, the sessions
+	 */
+	public int size() {
+		return sessions.size();
+	}
+
+	/**
+	 * One logged in player. Requests for the same session are handled one at a
+	 * time by synchronizing on it.
+	 */
+	public static class Session {
+		private final WordleAccount account;
+		private Wordle game;
+		private volatile long lastUsed = System.currentTimeMillis();
+
+		Session(WordleAccount account) {
+			this.account = account;
+		}
+
+		/**
+		 * Getter for the account of the player
+		 *
+		 * @return WordleAccount, the account
+		 */
+		public WordleAccount getAccount() {
+			return account;
+		}
+
+		/**
+		 * Getter for the current game
+		 *
+		 * @return Wordle, the game or null if none was started
+		 */
+		public Wordle getGame() {
+			return game;
+		}
+
+		/**
+		 * Start a new game, reusing the last one if there was one
+		 *
+		 * @param date, the date of the daily puzzle, or null for a random word
+		 * @return Wordle, the started game
+		 */
+		public Wordle startGame(LocalDate date) {
+			if (game == null) {
+				game = new Wordle();
+			}
+			if (date == null) {
+				game.startGame();
+			} else {
+				game.startDailyGame(date);
+			}
+			return game;
+		}
+	}
+}
@@ -0,0 +1,477 @@
+package server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import model.AccountRepository;
+import model.Credentials;
+import model.DailySchedule;
+import model.Feedback;
+import model.RankingTree;
+import model.Wordle;
+import model.WordleAccount;
+import model.WordleDictionary;
+import model.WordleLeaderBoard;
+import server.SessionTable.Session;
+
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordleServer.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: Headless Wordle for many players at once over HTTP, using the
+ * same model classes as the GUI. Every request is handled on its own virtual
+ * thread when the JDK has them, otherwise on a fixed pool of threads. The
+ * endpoints take their parameters from the query string or a form body and
+ * answer with JSON:
+ *
+ *   /create      name, password  new account and a session token
+ *                                (at most 32 characters each)
+ *   /login       name, password  a session token
+ *   /logout      token
+ *   /delete      token           delete the player's account and log out
+ *   /start       token, daily    start a new game, with today's daily word
+ *                                if daily=true
+ *   /guess       token, word     the pattern of the guess, e.g. "20100"
+ *                                (2 correct, 1 wrong spot, 0 not in word),
+ *                                and the keyboard, the best digit of a to z
+ *                                with '-' for letters not guessed yet
+ *   /stats       token           the player's statistics and rank
+ *   /leaderboard from, count     one page of the leader board
+ *
+ * Run from the folder that holds valid-wordle-words.txt.
+ *
+ * Usage: java server.WordleServer [port=8080] [threads=0] [idle=1800]
+ *        (threads=0 uses virtual threads when available, idle is seconds)
+ */
+public class WordleServer {
+
+	private static final int MAX_PAGE = 100;
+	private static final int MAX_BODY = 4096;
+
+	private final HttpServer http;
+	private final ExecutorService executor;
+	private final ScheduledExecutorService expiry;
+	private final SessionTable sessions;
+	private final WordleLeaderBoard leaderBoard = new WordleLeaderBoard();
+	private final RankingTree ranking = AccountRepository.getInstance().getRanking();
+
+	/**
+	 * Constructor for WordleServer, the server is not started until start
+	 *
+	 * @param port, the port to listen on, 0 for any free port
+	 * @param threads, the pool size, 0 for a virtual thread per request
+	 * @param idleSeconds, how long a session lives without being used
+	 * @throws IOException if the port cannot be opened
+	 */
+	public WordleServer(int port, int threads, long idleSeconds) throws IOException {
+		sessions = new SessionTable(TimeUnit.SECONDS.toMillis(idleSeconds));
+		executor = threads > 0 ? Executors.newFixedThreadPool(threads) : newRequestExecutor();
+		http = HttpServer.create(new InetSocketAddress(port), 1024);
+		http.setExecutor(executor);
+		http.createContext("/create", exchange -> handle(exchange, this::login));
+		http.createContext("/login", exchange -> handle(exchange, this::login));
+		http.createContext("/logout", exchange -> handle(exchange, this::logout));
+		http.createContext("/delete", exchange -> handle(exchange, this::delete));
+		http.createContext("/start", exchange -> handle(exchange, this::start));
+		http.createContext("/guess", exchange -> handle(exchange, this::guess));
+		http.createContext("/stats", exchange -> handle(exchange, this::stats));
+		http.createContext("/leaderboard", exchange -> handle(exchange, this::leaderBoard));
+		expiry = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "session-expiry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Main method for the server
+	 *
+	 * @param args, optional port=, threads= and idle= settings
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = 8080;
+		int threads = 0;
+		long idle = 1800;
+		for (String arg : args) {
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("port=")) {
+				port = Integer.parseInt(value);
+			} else if (arg.startsWith("threads=")) {
+				threads = Integer.parseInt(value);
+			} else if (arg.startsWith("idle=")) {
+				idle = Long.parseLong(value);
+			} else {
+				System.out.println("Unknown setting " + arg);
+				return;
+			}
+		}
+
+		// answers are small, send them without waiting on Nagle's algorithm;
+		// read once when the HttpServer classes load
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+		// load the dictionary before the first player arrives, and again
+		// whenever the word lists are edited; new games get the new words
+		new Wordle();
+		WordleDictionary.watchForChanges();
+		WordleServer server = new WordleServer(port, threads, idle);
+		Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+		server.start();
+		System.out.println("Wordle server listening on port " + server.getPort());
+	}
+
+	/**
+	 * Start answering requests
+	 */
+	public void start() {
+		expiry.scheduleWithFixedDelay(sessions::expire, 1, 1, TimeUnit.MINUTES);
+		http.start();
+	}
+
+	/**
+	 * Stop the server and write any account changes still pending
+	 */
+	public void stop() {
+		http.stop(0);
+		expiry.shutdownNow();
+		executor.shutdown();
+		AccountRepository.getInstance().flush().join();
+	}
+
+	/**
+	 * Getter for the port the server listens on
+	 *
+	 * @return int, the port
+	 */
+	public int getPort() {
+		return http.getAddress().getPort();
+	}
+
+	/**
+	 * Getter for the logged in players
+	 *
+	 * @return SessionTable, the sessions
+	 */
+	public SessionTable getSessions() {
+		return sessions;
+	}
+
+	/**
+	 * Helper method to create the executor for requests. Virtual threads came
+	 * in Java 21, so they are looked up by name and a pool of platform threads
+	 * is used on older JDKs.
+	 *
+	 * @return ExecutorService, one virtual thread per request if available
+	 */
+	static ExecutorService newRequestExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(Math.max(16, Runtime.getRuntime().availableProcessors() * 8));
+		}
+	}
+
+	/**
+	 * /create and /login
+	 */
+	private Response login(HttpExchange exchange, Map<String, String> params) {
+		String name = params.get("name");
+		String password = params.get("password");
+		if (name == null || name.isEmpty() || password == null) {
+			return Response.error(400, "name and password are required");
+		}
+		boolean newAccount = exchange.getHttpContext().getPath().equals("/create");
+		if (newAccount && !AccountRepository.isValidAccount(name, password)) {
+			return Response.error(400, "name can be at most " + AccountRepository.MAX_NAME_LENGTH
+					+ " characters and password at most " + AccountRepository.MAX_PASSWORD_LENGTH + " characters");
+		}
+		WordleAccount account = new WordleAccount(name, password, newAccount);
+		if (!account.getAccountAuthenticationStatus()) {
+			return newAccount ? Response.error(409, "User " + name + " already exists")
+					: Response.error(401, "User " + name + " not found or password invalid");
+		}
+		account.setLastLogin();
+		return Response.ok("{\"token\":" + quote(sessions.open(account)) + "}");
+	}
+
+	/**
+	 * /logout
+	 */
+	private Response logout(HttpExchange exchange, Map<String, String> params) {
+		sessions.close(params.get("token"));
+		return Response.ok("{}");
+	}
+
+	/**
+	 * /delete
+	 */
+	private Response delete(HttpExchange exchange, Map<String, String> params) {
+		String token = params.get("token");
+		Session session = sessions.get(token);
+		if (session == null) {
+			return Response.error(401, "Unknown or expired token");
+		}
+		// other sessions of the player find the account gone, see stats
+		AccountRepository.getInstance().deleteAccount(session.getAccount().getUserName());
+		sessions.close(token);
+		return Response.ok("{}");
+	}
+
+	/**
+	 * /start
+	 */
+	private Response start(HttpExchange exchange, Map<String, String> params) {
+		Session session = sessions.get(params.get("token"));
+		if (session == null) {
+			return Response.error(401, "Unknown or expired token");
+		}
+		boolean daily = Boolean.parseBoolean(params.get("daily"));
+		LocalDate today = LocalDate.now();
+		synchronized (session) {
+			session.startGame(daily ? today : null);
+		}
+		StringBuilder json = new StringBuilder("{\"maxGuesses\":").append(Wordle.MAX_GUESSES);
+		if (daily) {
+			json.append(",\"day\":").append(DailySchedule.getDayNumber(today));
+		}
+		return Response.ok(json.append('}').toString());
+	}
+
+	/**
+	 * /guess
+	 */
+	private Response guess(HttpExchange exchange, Map<String, String> params) {
+		Session session = sessions.get(params.get("token"));
+		if (session == null) {
+			return Response.error(401, "Unknown or expired token");
+		}
+		String word = params.get("word");
+		synchronized (session) {
+			Wordle game = session.getGame();
+			if (game == null || !game.checkGameRunning()) {
+				return Response.error(409, "No game running, call /start");
+			}
+			// an invalid word does not use up a guess, as in the GUI
+			if (word == null || !game.isValidWord(word)) {
+				return Response.error(400, "Not a valid word");
+			}
+			int pattern = game.makeGuessPacked(word);
+			StringBuilder json = new StringBuilder(128);
+			json.append("{\"pattern\":\"");
+			for (int position = 0; position < 5; position++) {
+				json.append(Feedback.digitAt(pattern, position));
+			}
+			json.append("\",\"keys\":\"").append(game.getKeyboardState());
+			json.append("\",\"guesses\":").append(game.getGuessCount());
+			if (game.checkGameRunning()) {
+				json.append(",\"state\":\"playing\"}");
+			} else {
+				boolean won = game.checkGameWon();
+				session.getAccount().updateStats(won, won ? game.getGuessCount() - 1 : 0);
+				json.append(",\"state\":").append(won ? "\"won\"" : "\"lost\"");
+				json.append(",\"answer\":").append(quote(game.getWord())).append('}');
+			}
+			return Response.ok(json.toString());
+		}
+	}
+
+	/**
+	 * /stats
+	 */
+	private Response stats(HttpExchange exchange, Map<String, String> params) {
+		Session session = sessions.get(params.get("token"));
+		if (session == null) {
+			return Response.error(401, "Unknown or expired token");
+		}
+		String name = session.getAccount().getUserName();
+		Credentials stats = session.getAccount().getStats();
+		if (stats == null) {
+			return Response.error(404, "Account no longer exists");
+		}
+		StringBuilder json = new StringBuilder(160);
+		json.append("{\"name\":").append(quote(name));
+		json.append(",\"played\":").append(stats.getNumGamesPlayed());
+		json.append(",\"won\":").append(stats.getNumGamesWon());
+		json.append(",\"currentStreak\":").append(stats.getCurrentWinningStreak());
+		json.append(",\"maxStreak\":").append(stats.getMaxWinningStreak());
+		json.append(",\"guessDistribution\":[");
+		int[] distribution = stats.getGuessDistribution();
+		for (int i = 0; i < distribution.length; i++) {
+			json.append(i == 0 ? "" : ",").append(distribution[i]);
+		}
+		json.append("],\"rank\":").append(leaderBoard.getRank(name)).append('}');
+		return Response.ok(json.toString());
+	}
+
+	/**
+	 * /leaderboard
+	 */
+	private Response leaderBoard(HttpExchange exchange, Map<String, String> params) {
+		int from;
+		int count;
+		try {
+			from = Integer.parseInt(params.getOrDefault("from", "0"));
+			count = Integer.parseInt(params.getOrDefault("count", "10"));
+		} catch (NumberFormatException e) {
+			return Response.error(400, "from and count must be numbers");
+		}
+		if (from < 0 || count < 0) {
+			return Response.error(400, "from and count must not be negative");
+		}
+		List<RankingTree.Entry> page = ranking.page(from, Math.min(count, MAX_PAGE));
+		StringBuilder json = new StringBuilder(32 + page.size() * 48);
+		json.append("{\"total\":").append(ranking.size()).append(",\"leaders\":[");
+		for (int i = 0; i < page.size(); i++) {
+			RankingTree.Entry entry = page.get(i);
+			json.append(i == 0 ? "{" : ",{");
+			json.append("\"rank\":").append(from + i + 1);
+			json.append(",\"name\":").append(quote(entry.getName()));
+			json.append(",\"won\":").append(entry.getWins()).append('}');
+		}
+		json.append("]}");
+		return Response.ok(json.toString());
+	}
+
+	/**
+	 * Helper method to read the parameters, run an endpoint and send its answer
+	 *
+	 * @param exchange, the request
+	 * @param endpoint, the endpoint to run
+	 */
+	private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+		try {
+			Response response;
+			String method = exchange.getRequestMethod();
+			if (!method.equals("GET") && !method.equals("POST")) {
+				response = Response.error(405, "Use GET or POST");
+			} else {
+				try {
+					response = endpoint.run(exchange, readParameters(exchange));
+				} catch (IllegalArgumentException e) {
+					response = Response.error(400, e.getMessage());
+				} catch (RuntimeException e) {
+					response = Response.error(500, "Server error");
+					e.printStackTrace();
+				}
+			}
+			byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(response.status, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Helper method to read the query string and any form body
+	 *
+	 * @param exchange, the request
+	 * @return Map, parameter names to values
+	 * @throws IOException if the body cannot be read
+	 */
+	private static Map<String, String> readParameters(HttpExchange exchange) throws IOException {
+		Map<String, String> params = new HashMap<>();
+		parseForm(exchange.getRequestURI().getRawQuery(), params);
+		if (exchange.getRequestMethod().equals("POST")) {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			try (InputStream in = exchange.getRequestBody()) {
+				byte[] buffer = new byte[512];
+				for (int read; (read = in.read(buffer)) != -1;) {
+					if (body.size() + read > MAX_BODY) {
+						throw new IllegalArgumentException("Request body too large");
+					}
+					body.write(buffer, 0, read);
+				}
+			}
+			parseForm(body.toString(StandardCharsets.UTF_8), params);
+		}
+		return params;
+	}
+
+	/**
+	 * Helper method to add the pairs of a name=value&amp;name=value string
+	 *
+	 * @param form, the encoded pairs, may be null
+	 * @param params, where the pairs are added
+	 */
+	private static void parseForm(String form, Map<String, String> params) {
+		if (form == null || form.isEmpty()) {
+			return;
+		}
+		for (String pair : form.split("&")) {
+			int equals = pair.indexOf('=');
+			String name = equals < 0 ? pair : pair.substring(0, equals);
+			String value = equals < 0 ? "" : pair.substring(equals + 1);
+			params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Helper method to write a string as a JSON string
+	 *
+	 * @param value, the string
+	 * @return String, the quoted and escaped string
+	 */
+	static String quote(String value) {
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				quoted.append('\\').append(c);
+			} else if (c < 0x20) {
+				quoted.append(String.format("\\u%04x", (int) c));
+			} else {
+				quoted.append(c);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	/**
+	 * An endpoint of the server
+	 */
+	private interface Endpoint {
+		Response run(HttpExchange exchange, Map<String, String> params);
+	}
+
+	/**
+	 * Status code and JSON body of an answer
+	 */
+	private static final class Response {
+		private final int status;
+		private final String body;
+
+		private Response(int status, String body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		static Response ok(String body) {
+			return new Response(200, body);
+		}
+
+		static Response error(int status, String message) {
+			return new Response(status, "{\"error\":" + quote(message) + "}");
+		}
+	}
+}
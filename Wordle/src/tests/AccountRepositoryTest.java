@@ -0,0 +1,149 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: AccountRepositoryTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the AccountRepository
+ * class. Changes are written behind, so after flush a new repository on the
+ * same store must load exactly what the first one holds in memory. A new
+ * store imports the accounts of credentials.ser, a damaged credentials.ser
+ * must not leave a store behind, and games recorded on many threads at once
+ * must all be counted.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import model.AccountRepository;
+import model.Credentials;
+
+class AccountRepositoryTest {
+
+	@Test
+	void test() throws IOException, InterruptedException {
+		File store = File.createTempFile("accounts", ".db");
+		File legacy = File.createTempFile("credentials", ".ser");
+		store.delete();
+		try {
+			AccountRepository accounts = new AccountRepository(store.getPath());
+			assertTrue(accounts.createAccount("chris", "1"));
+			assertFalse(accounts.createAccount("chris", "2"));
+			assertFalse(accounts.createAccount("a name longer than thirty-two characters", "2"));
+			assertTrue(accounts.createAccount("edan", "4"));
+			assertTrue(accounts.createAccount("gone", "5"));
+			accounts.recordLogin("chris", LocalDate.of(2023, 4, 20));
+			for (int game = 0; game < 50; game++) {
+				accounts.recordGame("chris", game % 3 != 0, game % 6);
+			}
+			accounts.recordGame("edan", true, 2);
+			accounts.deleteAccount("gone");
+			accounts.recordGame("gone", true, 1);
+
+			// updates are in memory right away
+			assertEquals(50, accounts.get("chris").getNumGamesPlayed());
+			// get is a snapshot, changing it changes nothing
+			accounts.get("chris").setNumGamesPlayed(0);
+			assertEquals(50, accounts.get("chris").getNumGamesPlayed());
+			assertTrue(accounts.authenticate("chris", "1"));
+			assertFalse(accounts.authenticate("chris", "2"));
+			assertNull(accounts.get("gone"));
+			assertEquals(0, accounts.getRanking().rankOf("chris"));
+
+			accounts.flush().join();
+			AccountRepository reloaded = new AccountRepository(store.getPath());
+			assertEquals(2, reloaded.getAllUsers().size());
+			for (String name : new String[] { "chris", "edan" }) {
+				Credentials expected = accounts.get(name);
+				Credentials actual = reloaded.get(name);
+				assertEquals(expected.getPassword(), actual.getPassword());
+				assertEquals(expected.getLastLoginDate(), actual.getLastLoginDate());
+				assertEquals(expected.getNumGamesPlayed(), actual.getNumGamesPlayed());
+				assertEquals(expected.getNumGamesWon(), actual.getNumGamesWon());
+				assertEquals(expected.getCurrentWinningStreak(), actual.getCurrentWinningStreak());
+				assertEquals(expected.getMaxWinningStreak(), actual.getMaxWinningStreak());
+				assertArrayEquals(expected.getGuessDistribution(), actual.getGuessDistribution());
+			}
+			assertEquals(1, reloaded.getRanking().rankOf("edan"));
+			reloaded.close();
+
+			// after close changes stay in memory
+			accounts.close();
+			accounts.recordGame("edan", true, 2);
+			assertEquals(2, accounts.get("edan").getNumGamesPlayed());
+			accounts.flush().join();
+
+			// games finishing at once on many threads are all counted
+			AccountRepository shared = new AccountRepository(store.getPath());
+			for (int i = 0; i < 4; i++) {
+				shared.createAccount("player" + i, "p");
+			}
+			Thread[] threads = new Thread[8];
+			for (int t = 0; t < threads.length; t++) {
+				threads[t] = new Thread(() -> {
+					for (int game = 0; game < 2000; game++) {
+						shared.recordGame("player" + game % 4, game % 2 == 0, 3);
+					}
+				});
+				threads[t].start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			for (int i = 0; i < 4; i++) {
+				Credentials player = shared.get("player" + i);
+				assertEquals(4000, player.getNumGamesPlayed());
+				assertEquals(i % 2 == 0 ? 4000 : 0, player.getNumGamesWon());
+				assertEquals(player.getNumGamesWon(), player.getGuessDistribution()[3]);
+			}
+			assertEquals(0, shared.getRanking().rankOf("player0"));
+			shared.close();
+
+			// a damaged credentials.ser is not imported and no store is made, so
+			// the import runs again on the next start
+			store.delete();
+			try (FileOutputStream out = new FileOutputStream(legacy)) {
+				out.write(new byte[] { 1, 2, 3 });
+			}
+			AccountRepository damaged = new AccountRepository(store.getPath(), legacy.getPath());
+			assertTrue(damaged.getAllUsers().isEmpty());
+			damaged.close();
+			assertFalse(store.exists());
+
+			// a new store starts with the accounts of credentials.ser, however
+			// long their names are
+			HashMap<String, Credentials> old = new HashMap<>();
+			old.put("michael", new Credentials());
+			old.get("michael").setPassword("3");
+			String longName = "anisha".repeat(50);
+			old.put(longName, new Credentials());
+			old.get(longName).setPassword("p".repeat(200));
+			try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(legacy))) {
+				out.writeObject(old);
+			}
+			// what an import that stopped halfway left behind
+			File partial = new File(store.getPath() + ".tmp");
+			try (FileOutputStream out = new FileOutputStream(partial)) {
+				out.write(new byte[100]);
+			}
+			AccountRepository imported = new AccountRepository(store.getPath(), legacy.getPath());
+			assertTrue(imported.authenticate("michael", "3"));
+			assertFalse(partial.exists());
+			imported.close();
+			AccountRepository reopened = new AccountRepository(store.getPath());
+			assertTrue(reopened.authenticate("michael", "3"));
+			assertTrue(reopened.authenticate(longName, "p".repeat(200)));
+			reopened.close();
+		} finally {
+			store.delete();
+			legacy.delete();
+		}
+	}
+}
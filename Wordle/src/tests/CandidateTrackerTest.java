@@ -0,0 +1,67 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: CandidateTrackerTest.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the CandidateTracker class.
+ * Narrowing with the bitset masks must keep exactly the words that
+ * Feedback.score would give the same pattern.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.CandidateMasks;
+import model.CandidateTracker;
+import model.Feedback;
+import model.PackedWord;
+
+class CandidateTrackerTest {
+	private final String[] WORDS = { "crane", "treat", "happy", "hello", "apple", "whelp", "while", "abbey", "bobby",
+			"eater", "lever", "stink", "iliac", "geese", "eerie", "tweet", "sheet", "steer", "terse", "reset" };
+
+	@Test
+	void test() {
+		int[] packed = new int[WORDS.length];
+		for (int i = 0; i < WORDS.length; i++) {
+			packed[i] = PackedWord.pack(WORDS[i]);
+		}
+		CandidateTracker tracker = new CandidateTracker(new CandidateMasks(packed));
+		assertEquals(WORDS.length, tracker.getRemainingCount());
+
+		// every guess against every answer narrows to the words with the same pattern
+		for (int answer = 0; answer < packed.length; answer++) {
+			for (int guess = 0; guess < packed.length; guess++) {
+				tracker.reset();
+				int pattern = Feedback.score(packed[guess], packed[answer]);
+				tracker.narrow(packed[guess], pattern);
+				int expected = 0;
+				for (int word = 0; word < packed.length; word++) {
+					boolean same = Feedback.score(packed[guess], packed[word]) == pattern;
+					assertEquals(same, tracker.isCandidate(word), WORDS[guess] + " vs " + WORDS[word]);
+					assertEquals(same, tracker.isConsistent(packed[word]));
+					if (same) {
+						expected++;
+					}
+				}
+				assertEquals(expected, tracker.getRemainingCount());
+				int[] candidates = tracker.toArray();
+				assertEquals(expected, candidates.length);
+				for (int n = 0; n < candidates.length; n++) {
+					assertEquals(candidates[n], tracker.nthCandidate(n));
+				}
+				assertEquals(-1, tracker.nthCandidate(candidates.length));
+				assertTrue(tracker.isCandidate(answer));
+			}
+		}
+
+		// two guesses in a row
+		tracker.reset();
+		int answer = PackedWord.pack("steer");
+		tracker.narrow(PackedWord.pack("eerie"), Feedback.score(PackedWord.pack("eerie"), answer));
+		tracker.narrow(PackedWord.pack("terse"), Feedback.score(PackedWord.pack("terse"), answer));
+		assertArrayEquals(new int[] { 17 }, tracker.toArray());
+		assertEquals(-1, tracker.nextCandidate(18));
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: CredentialsCodecTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the CredentialsCodec
+ * class. Accounts must come back the same after encoding, after migrating a
+ * Java serialized file, and damaged files must be rejected.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import model.Credentials;
+import model.CredentialsCodec;
+
+class CredentialsCodecTest {
+
+	@Test
+	void test() throws IOException {
+		HashMap<String, Credentials> accounts = new HashMap<>();
+		Credentials chris = new Credentials();
+		chris.setPassword("p\u00e4ssword");
+		chris.setLastLoginDate(LocalDate.of(2023, 4, 20));
+		chris.updateStats(true, 2);
+		chris.updateStats(true, 5);
+		chris.updateStats(false, 0);
+		chris.setNumGamesPlayed(1000000);
+		accounts.put("chris", chris);
+		accounts.put("never logged in", new Credentials());
+		Credentials old = new Credentials();
+		old.setPassword("");
+		old.setLastLoginDate(LocalDate.of(1900, 1, 1));
+		accounts.put("\u6771\u4eac", old);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CredentialsCodec.encode(accounts, out);
+		byte[] bytes = out.toByteArray();
+		assertSameAccounts(accounts, CredentialsCodec.decode(bytes));
+
+		// damaged files are rejected, not half read
+		byte[] damaged = bytes.clone();
+		damaged[damaged.length / 2] ^= 1;
+		assertThrows(IOException.class, () -> CredentialsCodec.decode(damaged));
+		byte[] newer = bytes.clone();
+		newer[4] = (byte) (CredentialsCodec.VERSION + 1);
+		assertThrows(IOException.class, () -> CredentialsCodec.decode(newer));
+		assertThrows(IOException.class, () -> CredentialsCodec.decode(new byte[3]));
+
+		// migrate a Java serialized file
+		File legacy = File.createTempFile("credentials", ".ser");
+		File target = File.createTempFile("credentials", ".dat");
+		try {
+			ObjectOutputStream serialized = new ObjectOutputStream(new FileOutputStream(legacy));
+			serialized.writeObject(accounts);
+			serialized.close();
+			assertSameAccounts(accounts, CredentialsCodec.migrate(legacy.toPath(), target.toPath()));
+			assertSameAccounts(accounts, CredentialsCodec.load(target.toPath()));
+		} finally {
+			legacy.delete();
+			target.delete();
+		}
+	}
+
+	private void assertSameAccounts(HashMap<String, Credentials> expected, HashMap<String, Credentials> actual) {
+		assertEquals(expected.keySet(), actual.keySet());
+		for (String name : expected.keySet()) {
+			Credentials e = expected.get(name);
+			Credentials a = actual.get(name);
+			assertEquals(e.getPassword(), a.getPassword());
+			assertEquals(e.getLastLoginDate(), a.getLastLoginDate());
+			assertEquals(e.getNumGamesPlayed(), a.getNumGamesPlayed());
+			assertEquals(e.getNumGamesWon(), a.getNumGamesWon());
+			assertEquals(e.getCurrentWinningStreak(), a.getCurrentWinningStreak());
+			assertEquals(e.getMaxWinningStreak(), a.getMaxWinningStreak());
+			assertArrayEquals(e.getGuessDistribution(), a.getGuessDistribution());
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: DailyScheduleTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the DailySchedule
+ * class. Every word must get exactly one day before the calendar starts over,
+ * the calendar must be the same every time it is built, and daily games on
+ * the same date must have the same word.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import model.DailySchedule;
+import model.WordList;
+import model.Wordle;
+
+class DailyScheduleTest {
+
+	@Test
+	void test() {
+		DailySchedule schedule = new DailySchedule(1000);
+		boolean[] seen = new boolean[1000];
+		for (int day = 0; day < 1000; day++) {
+			int index = schedule.getWordIndex(day);
+			assertFalse(seen[index]);
+			seen[index] = true;
+		}
+		assertEquals(schedule.getWordIndex(7), schedule.getWordIndex(1007));
+		assertEquals(schedule.getWordIndex(999), schedule.getWordIndex(-1));
+		assertEquals(schedule.getWordIndex(42), new DailySchedule(1000).getWordIndex(42));
+
+		LocalDate date = LocalDate.of(2023, 4, 20);
+		assertEquals(0, DailySchedule.getDayNumber(DailySchedule.FIRST_DAY));
+		assertEquals(schedule.getWordIndex(DailySchedule.getDayNumber(date)), schedule.getWordIndex(date));
+
+		// two players on the same day get the same word, the next day a new one
+		Wordle first = new Wordle();
+		Wordle second = new Wordle();
+		first.startDailyGame(date);
+		second.startDailyGame(date);
+		String word = first.getWord();
+		assertEquals(word, second.getWord());
+		WordList words = first.getWordList();
+		assertEquals(word, words.getWord(words.getDailySchedule().getWordIndex(date)));
+		second.startDailyGame(date.plusDays(1));
+		assertNotEquals(word, second.getWord());
+		first.makeGuess(word);
+		assertTrue(first.checkGameWon());
+	}
+}
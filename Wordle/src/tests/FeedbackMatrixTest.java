@@ -0,0 +1,77 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: FeedbackMatrixTest.java 
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the FeedbackMatrix class.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import model.Feedback;
+import model.FeedbackMatrix;
+import model.PackedWord;
+
+class FeedbackMatrixTest {
+	private final String[] WORDS = { "crane", "treat", "happy", "hello", "apple", "whelp", "while", "abbey", "bobby" };
+
+	@Test
+	void test() throws Exception {
+		int[] packed = new int[WORDS.length];
+		for (int i = 0; i < WORDS.length; i++) {
+			packed[i] = PackedWord.pack(WORDS[i]);
+		}
+		Path cache = Files.createTempFile("feedback-matrix", ".bin");
+		Files.delete(cache);
+
+		// no cache file yet, so nothing to map
+		assertNull(FeedbackMatrix.map(cache, packed, packed));
+
+		FeedbackMatrix.build(cache, packed, packed);
+		FeedbackMatrix mapped = FeedbackMatrix.map(cache, packed, packed);
+		FeedbackMatrix lazy = FeedbackMatrix.lazy(packed, packed);
+		assertTrue(mapped.isMapped());
+		assertFalse(lazy.isMapped());
+
+		for (int g = 0; g < packed.length; g++) {
+			for (int a = 0; a < packed.length; a++) {
+				int expected = Feedback.score(packed[g], packed[a]);
+				assertEquals(expected, mapped.pattern(g, a));
+				assertEquals(expected, lazy.pattern(g, a));
+			}
+			assertEquals(Feedback.ALL_CORRECT, mapped.pattern(g, g));
+		}
+
+		// builds at the same time each write their own file, and no temporary
+		// file is left behind
+		Thread other = new Thread(() -> {
+			try {
+				FeedbackMatrix.build(cache, packed, packed);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		other.start();
+		FeedbackMatrix.build(cache, packed, packed);
+		other.join();
+		assertTrue(FeedbackMatrix.map(cache, packed, packed).isMapped());
+		try (Stream<Path> files = Files.list(cache.getParent())) {
+			String prefix = cache.getFileName().toString();
+			assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith(prefix)).count());
+		}
+
+		// a different word list must not reuse the cache
+		int[] changed = packed.clone();
+		changed[0] = PackedWord.pack("lever");
+		assertNull(FeedbackMatrix.map(cache, changed, changed));
+		cache.toFile().deleteOnExit();
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: GuessPipelineTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the GuessPipeline class.
+ * Results must be delivered on the delivery thread in the order the guesses
+ * were submitted, an invalid word must not use up a guess, and a guess of a
+ * game that was replaced by a new one must come back stale.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import model.Feedback;
+import model.GuessPipeline;
+import model.GuessPipeline.Result;
+import model.PackedWord;
+import model.Wordle;
+
+class GuessPipelineTest {
+
+	@Test
+	void test() throws Exception {
+		ExecutorService ui = Executors.newSingleThreadExecutor(task -> new Thread(task, "test-ui"));
+		// counts the results handed over, on the delivery thread itself
+		AtomicInteger delivered = new AtomicInteger();
+		Executor delivery = task -> ui.execute(() -> {
+			delivered.incrementAndGet();
+			task.run();
+		});
+		try (GuessPipeline pipeline = new GuessPipeline(delivery)) {
+			Wordle game = new Wordle();
+			game.setWord("crane");
+
+			// results come back in order, through the delivery executor; the
+			// single ui thread runs the actions in the order the results arrive
+			List<String> shown = new ArrayList<>();
+			List<CompletableFuture<Result>> futures = new ArrayList<>();
+			for (String guess : new String[] { "zzzzz", "treat", "happy" }) {
+				futures.add(pipeline.submit(game, null, guess)
+						.whenCompleteAsync((result, error) -> shown.add(result.getGuess()), ui));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+			assertEquals(List.of("zzzzz", "treat", "happy"), shown);
+			assertEquals(3, delivered.get());
+
+			Result invalid = futures.get(0).get();
+			assertFalse(invalid.isValid());
+			assertFalse(invalid.isStale());
+			Result treat = futures.get(1).get();
+			assertTrue(treat.isValid());
+			assertEquals(Feedback.score(PackedWord.pack("treat"), PackedWord.pack("crane")), treat.getPattern());
+			assertFalse(treat.isGameOver());
+			assertEquals(2, futures.get(2).get().getGuessCount());
+			assertEquals(2, game.getGuessCount());
+
+			// a guess typed before a new game started is dropped; holding the game
+			// keeps the background thread from making it first
+			CompletableFuture<Result> late;
+			synchronized (game) {
+				late = pipeline.submit(game, null, "crane");
+				game.startGame();
+			}
+			assertTrue(late.get(10, TimeUnit.SECONDS).isStale());
+			assertEquals(0, game.getGuessCount());
+
+			game.setWord("crane");
+			int number = game.getGameNumber();
+			Result won = pipeline.submit(game, null, "crane").get(10, TimeUnit.SECONDS);
+			assertTrue(won.isWon());
+			assertTrue(won.isGameOver());
+			assertEquals(number, won.getGameNumber());
+			Result afterEnd = pipeline.submit(game, null, "treat").get(10, TimeUnit.SECONDS);
+			assertTrue(afterEnd.isStale());
+		} finally {
+			ui.shutdown();
+		}
+	}
+}
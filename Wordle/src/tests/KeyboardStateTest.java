@@ -0,0 +1,55 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: KeyboardStateTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the KeyboardState class.
+ * A letter's status must only go up, the listener must hear about every
+ * change and nothing else, and reset must start every letter over.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import model.Feedback;
+import model.KeyboardState;
+import model.PackedWord;
+
+class KeyboardStateTest {
+
+	@Test
+	void test() {
+		KeyboardState keys = new KeyboardState();
+		List<String> changes = new ArrayList<>();
+		keys.setListener((letter, status) -> changes.add((char) ('a' + letter) + "" + status));
+		assertEquals("--------------------------", keys.toString());
+
+		// answer "abbey", guess "bobby": b yellow, o grey, b green, b grey, y green
+		int guess = PackedWord.pack("bobby");
+		keys.apply(guess, Feedback.score(guess, PackedWord.pack("abbey")));
+		assertEquals(Feedback.CORRECT, keys.getStatus('b'));
+		assertEquals(Feedback.ABSENT, keys.getStatus('O'));
+		assertEquals(Feedback.CORRECT, keys.getStatus('y'));
+		assertEquals(KeyboardState.UNUSED, keys.getStatus('a'));
+		assertEquals(KeyboardState.UNUSED, keys.getStatus('?'));
+		assertEquals(List.of("b1", "o0", "b2", "y2"), changes);
+
+		// a green letter found in the wrong place later stays green
+		changes.clear();
+		assertFalse(keys.update('b' - 'a', Feedback.PRESENT));
+		assertFalse(keys.update('b' - 'a', Feedback.ABSENT));
+		assertTrue(keys.update('a' - 'a', Feedback.PRESENT));
+		assertEquals(List.of("a1"), changes);
+		assertEquals("12------------0---------2-", keys.toString());
+
+		// a new game
+		changes.clear();
+		keys.reset();
+		assertEquals("--------------------------", keys.toString());
+		assertTrue(changes.isEmpty());
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: MappedAccountStoreTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the MappedAccountStore
+ * class. Accounts must survive reopening, deleted slots must be reused before
+ * the file grows, a save torn by a crash must fall back to the copy
+ * before it, a file made with bigger records must keep names that don't
+ * fit the default ones, and a file made by write must open like any other.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import model.Credentials;
+import model.MappedAccountStore;
+
+class MappedAccountStoreTest {
+
+	@Test
+	void test() throws IOException {
+		File file = File.createTempFile("accounts", ".db");
+		file.delete();
+		try {
+			MappedAccountStore store = new MappedAccountStore(file.toPath());
+			Credentials first = account("1", 3);
+			store.put("first", first);
+			store.put("first", account("1", 4));
+
+			// enough accounts to grow the file twice
+			for (int i = 0; i < 3000; i++) {
+				store.put("user" + i, account("p" + i, i));
+			}
+			int capacity = store.getCapacity();
+			assertTrue(capacity >= 3001);
+			for (int i = 0; i < 1000; i++) {
+				store.delete("user" + i);
+			}
+			for (int i = 0; i < 1000; i++) {
+				store.put("new" + i, account("n" + i, i));
+			}
+			assertEquals(capacity, store.getCapacity());
+			assertEquals(3001, store.size());
+			String longName = "n".repeat(300);
+			assertFalse(store.fits(longName, "p"));
+			assertThrows(IllegalArgumentException.class, () -> store.put(longName, new Credentials()));
+			store.close();
+
+			HashMap<String, Credentials> loaded = new MappedAccountStore(file.toPath()).getLoadedAccounts();
+			assertEquals(3001, loaded.size());
+			assertNull(loaded.get("user0"));
+			assertEquals(2999, loaded.get("user2999").getNumGamesWon());
+			assertEquals("n5", loaded.get("new5").getPassword());
+			assertEquals(4, loaded.get("first").getNumGamesWon());
+			assertEquals(LocalDate.of(2023, 4, 20), loaded.get("first").getLastLoginDate());
+			assertArrayEquals(new int[] { 0, 1, 0, 0, 0, 0 }, loaded.get("first").getGuessDistribution());
+			assertNull(loaded.get("new0").getLastLoginDate());
+
+			// "first" is in slot 0 and its second save went to the second copy;
+			// damage that copy as if the save was cut short
+			try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+				raw.seek(512 + 256 + 70);
+				raw.write(0x5A);
+			}
+			loaded = new MappedAccountStore(file.toPath()).getLoadedAccounts();
+			assertEquals(3, loaded.get("first").getNumGamesWon());
+
+			// records sized for a long name and password, kept when reopened
+			file.delete();
+			String password = "\u00e9".repeat(200);
+			int recordSize = MappedAccountStore.recordSizeFor(longName, password);
+			assertEquals(1024, recordSize);
+			MappedAccountStore wide = new MappedAccountStore(file.toPath(), recordSize);
+			wide.put(longName, account(password, 7));
+			wide.close();
+			MappedAccountStore reopened = new MappedAccountStore(file.toPath());
+			assertEquals(recordSize, reopened.getRecordSize());
+			assertEquals(password, reopened.getLoadedAccounts().get(longName).getPassword());
+			reopened.close();
+
+			// a store written in one go, then changed like any other
+			HashMap<String, Credentials> accounts = new HashMap<>();
+			for (int i = 0; i < 1500; i++) {
+				accounts.put("user" + i, account("p" + i, i));
+			}
+			MappedAccountStore.write(file.toPath(), accounts, MappedAccountStore.DEFAULT_RECORD_SIZE);
+			MappedAccountStore written = new MappedAccountStore(file.toPath());
+			assertEquals(1500, written.size());
+			assertEquals(2048, written.getCapacity());
+			written.put("user7", account("p7", 70));
+			written.put("extra", account("e", 1));
+			written.close();
+			loaded = new MappedAccountStore(file.toPath()).getLoadedAccounts();
+			assertEquals(1501, loaded.size());
+			assertEquals(70, loaded.get("user7").getNumGamesWon());
+			assertEquals(1499, loaded.get("user1499").getNumGamesWon());
+		} finally {
+			file.delete();
+		}
+	}
+
+	private Credentials account(String password, int won) {
+		Credentials user = new Credentials();
+		user.setPassword(password);
+		user.setNumGamesPlayed(won + 1);
+		user.setNumGamesWon(won);
+		user.setCurrentWinningStreak(won % 5);
+		user.setMaxWinningStreak(won);
+		user.getGuessDistribution()[1] = 1;
+		user.setLastLoginDate(password.startsWith("n") ? null : LocalDate.of(2023, 4, 20));
+		return user;
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: RankingTreeTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the RankingTree class.
+ * After random updates and removals the ranking must match sorting the users
+ * by wins (most first) and then by name.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import model.RankingTree;
+
+class RankingTreeTest {
+
+	@Test
+	void test() {
+		RankingTree ranking = new RankingTree();
+		HashMap<String, Integer> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int step = 0; step < 5000; step++) {
+			String name = "user" + random.nextInt(300);
+			if (random.nextInt(10) == 0) {
+				ranking.remove(name);
+				expected.remove(name);
+			} else {
+				int wins = random.nextInt(20);
+				ranking.update(name, wins);
+				expected.put(name, wins);
+			}
+		}
+
+		ArrayList<String> sorted = new ArrayList<>(expected.keySet());
+		sorted.sort((a, b) -> expected.get(a).equals(expected.get(b)) ? a.compareTo(b)
+				: expected.get(b) - expected.get(a));
+
+		assertEquals(sorted.size(), ranking.size());
+		for (int rank = 0; rank < sorted.size(); rank++) {
+			assertEquals(rank, ranking.rankOf(sorted.get(rank)));
+		}
+		assertEquals(-1, ranking.rankOf("nobody"));
+
+		// pages line up with the sorted list, the last one is short
+		for (int from = 0; from < sorted.size(); from += 7) {
+			List<RankingTree.Entry> page = ranking.page(from, 7);
+			assertEquals(Math.min(7, sorted.size() - from), page.size());
+			for (int i = 0; i < page.size(); i++) {
+				String name = sorted.get(from + i);
+				assertEquals(name, page.get(i).getName());
+				assertEquals((int) expected.get(name), page.get(i).getWins());
+			}
+		}
+		assertEquals(10, ranking.top(10).size());
+		assertTrue(ranking.page(sorted.size(), 10).isEmpty());
+	}
+}
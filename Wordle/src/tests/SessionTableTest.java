@@ -0,0 +1,48 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: SessionTableTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the SessionTable class
+ * of the server. Tokens must find their own session until it is closed or
+ * left idle too long, and a session keeps its game between starts.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import model.Wordle;
+import model.WordleAccount;
+import server.SessionTable;
+
+class SessionTableTest {
+
+	@Test
+	void test() throws InterruptedException {
+		SessionTable sessions = new SessionTable(50);
+		WordleAccount account = new WordleAccount();
+		String first = sessions.open(account);
+		String second = sessions.open(account);
+		assertNotEquals(first, second);
+		assertEquals(2, sessions.size());
+		assertSame(account, sessions.get(first).getAccount());
+		assertNull(sessions.get("not a token"));
+		assertNull(sessions.get(null));
+
+		// a session has no game until one is started, then reuses it
+		assertNull(sessions.get(first).getGame());
+		Wordle game = sessions.get(first).startGame(null);
+		game.makeGuess(game.getWord());
+		assertFalse(game.checkGameRunning());
+		assertSame(game, sessions.get(first).startGame(null));
+		assertTrue(game.checkGameRunning());
+		assertEquals(0, game.getGuessCount());
+
+		sessions.close(second);
+		assertNull(sessions.get(second));
+		Thread.sleep(100);
+		assertEquals(1, sessions.expire());
+		assertNull(sessions.get(first));
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordImageTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the WordImage class. An
+ * image read back must hold the same words as the lists it was made from, an
+ * image of other lists must be ignored and a damaged one rejected.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import model.PackedWord;
+import model.WordImage;
+import model.WordList;
+
+class WordImageTest {
+
+	@Test
+	void test() throws IOException {
+		File answers = File.createTempFile("answers", ".txt");
+		File guesses = File.createTempFile("guesses", ".txt");
+		File image = File.createTempFile("wordlist", ".bin");
+		image.delete();
+		try {
+			Files.write(answers.toPath(), Arrays.asList("crane", "pious", "abbey"));
+			Files.write(guesses.toPath(), Arrays.asList("aahed", "zonal", "crane"));
+
+			// the first open writes the image, the second reads it
+			WordList loaded = WordList.open(answers.getPath(), guesses.getPath(), image.getPath());
+			assertTrue(image.exists());
+			long stamp = WordImage.stamp(answers.getPath(), guesses.getPath());
+			WordList read = WordImage.read(image.toPath(), stamp);
+			assertNotNull(read);
+			assertEquals(loaded.size(), read.size());
+			assertEquals(3, read.getAnswerCount());
+			for (int i = 0; i < loaded.size(); i++) {
+				assertEquals(loaded.getWord(i), read.getWord(i));
+				assertEquals(i, read.indexOf(PackedWord.pack(loaded.getWord(i))));
+			}
+			assertEquals(-1, read.indexOf(PackedWord.pack("xxxxx")));
+
+			// other lists, the image is stale
+			assertNull(WordImage.read(image.toPath(), stamp + 1));
+			Files.write(guesses.toPath(), Arrays.asList("aahed", "zonal", "crane", "wordy"));
+			assertNotEquals(stamp, WordImage.stamp(answers.getPath(), guesses.getPath()));
+			assertEquals(6, WordList.open(answers.getPath(), guesses.getPath(), image.getPath()).size());
+
+			// a damaged image is rejected
+			stamp = WordImage.stamp(answers.getPath(), guesses.getPath());
+			try (RandomAccessFile raw = new RandomAccessFile(image, "rw")) {
+				raw.seek(raw.length() - 1);
+				int last = raw.read();
+				raw.seek(raw.length() - 1);
+				raw.write(last ^ 1);
+			}
+			long damagedStamp = stamp;
+			assertThrows(IOException.class, () -> WordImage.read(image.toPath(), damagedStamp));
+		} finally {
+			answers.delete();
+			guesses.delete();
+			image.delete();
+		}
+	}
+}
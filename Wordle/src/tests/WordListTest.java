@@ -0,0 +1,57 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordListTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the WordList class. The
+ * answers must come first, every answer must also be a valid guess, words
+ * listed twice must be loaded once, and without an answer list every word can
+ * be the answer.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import model.PackedWord;
+import model.WordList;
+
+class WordListTest {
+
+	@Test
+	void test() throws IOException {
+		File answers = File.createTempFile("answers", ".txt");
+		File guesses = File.createTempFile("guesses", ".txt");
+		try {
+			Files.write(answers.toPath(), Arrays.asList("crane", "ABBEY", "crane", "toolong", "pious"));
+			Files.write(guesses.toPath(), Arrays.asList("aahed", "abbey", "zonal", "", "crane"));
+			WordList words = WordList.load(answers.getPath(), guesses.getPath());
+			assertEquals(3, words.getAnswerCount());
+			assertEquals(5, words.size());
+			assertEquals("crane", words.getWord(0));
+			assertEquals("pious", words.getWord(2));
+			assertEquals("aahed", words.getWord(3));
+			assertEquals(1, words.indexOf(PackedWord.pack("abbey")));
+			assertEquals(2, words.indexOf(PackedWord.pack("pious")));
+			assertEquals(4, words.indexOf(PackedWord.pack("zonal")));
+			assertEquals(-1, words.indexOf(PackedWord.pack("xxxxx")));
+			assertEquals(3, words.getCandidateMasks().getWordCount());
+			assertEquals(3, words.getDailySchedule().size());
+
+			// no answer list, every guess is an answer
+			WordList all = WordList.load("no such answers file", guesses.getPath());
+			assertEquals(4, all.size());
+			assertEquals(4, all.getAnswerCount());
+			assertEquals(all.size(), WordList.load(guesses.getPath()).getAnswerCount());
+			assertThrows(IOException.class, () -> WordList.load(answers.getPath(), "no such guess file"));
+		} finally {
+			answers.delete();
+			guesses.delete();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/**
+ * AUTHOR: Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ * FILE: WordListWatcherTest.java
+ * ASSIGNMENT: Final Project - Wordle
+ * PURPOSE: This class implements the JUnit tests for the WordListWatcher
+ * class. Changing a watched file must run the action, changing any other
+ * file in the folder must not.
+ */
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import model.WordListWatcher;
+
+class WordListWatcherTest {
+
+	@Test
+	void test() throws IOException, InterruptedException {
+		Path folder = Files.createTempDirectory("wordle-watch");
+		Path words = folder.resolve("words.txt");
+		Path other = folder.resolve("wordlist.bin");
+		Semaphore changes = new Semaphore(0);
+		try (WordListWatcher watcher = new WordListWatcher(folder, Set.of("words.txt"), changes::release)) {
+			assertEquals(folder, watcher.getFolder());
+
+			// other files are ignored
+			Files.write(other, new byte[] { 1 });
+			assertFalse(changes.tryAcquire(1, TimeUnit.SECONDS));
+
+			// several quick writes run the action once they settle
+			Files.write(words, Arrays.asList("crane"));
+			Files.write(words, Arrays.asList("crane", "pious"));
+			// some platforms poll for changes every few seconds
+			assertTrue(changes.tryAcquire(15, TimeUnit.SECONDS));
+		} finally {
+			Files.deleteIfExists(words);
+			Files.deleteIfExists(other);
+			Files.delete(folder);
+		}
+	}
+}
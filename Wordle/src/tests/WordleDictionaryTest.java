@@ -7,6 +7,9 @@ package tests;
 
 import org.junit.jupiter.api.Test;
 
+import model.Feedback;
+import model.PackedWord;
+import model.WordList;
 import model.WordleDictionary;
 import static org.junit.Assert.assertTrue;
 
@@ -89,4 +92,55 @@ class WordleDictionaryTest {
 		assertTrue(testDictionary.getWord().length() == 5);
 	}
 
+	@Test
+	void test3() {
+		testDictionary.initialize();
+		//lookups ignore case and accept any CharSequence
+		assertTrue(testDictionary.isValidWord("crane"));
+		assertTrue(testDictionary.isValidWord("CRANE"));
+		assertTrue(testDictionary.isValidWord(new StringBuilder("CrAnE")));
+		assertTrue(testDictionary.isValidWord(PackedWord.pack("crane")));
+		//anything that is not five letters is never valid
+		Assert.assertFalse(testDictionary.isValidWord("cran"));
+		Assert.assertFalse(testDictionary.isValidWord("cr4ne"));
+		Assert.assertFalse(testDictionary.isValidWord((String) null));
+		Assert.assertEquals("crane", PackedWord.unpack(PackedWord.pack("CRANE")));
+	}
+
+	@Test
+	void test4() {
+		//Scenario #1: word is "stink" and guess is "iliac", only the second I is marked
+		guesser.setWord("stink");
+		Assert.assertArrayEquals(new int[] {-1, -1, 1, -1, -1}, guesser.checkAccuracy("iliac"));
+
+		//Scenario #2: word is "eater" and guess is "lever", first E is yellow
+		guesser.setWord("eater");
+		Assert.assertArrayEquals(new int[] {-1, 0, -1, 1, 1}, guesser.checkAccuracy("lever"));
+
+		//word has two Bs, guess has three: one green, one yellow, one gray
+		guesser.setWord("abbey");
+		Assert.assertArrayEquals(new int[] {0, -1, 1, -1, 1}, guesser.checkAccuracy("bobby"));
+
+		//packed pattern decodes to the same status array
+		int pattern = guesser.checkAccuracyPacked("BOBBY");
+		Assert.assertArrayEquals(new int[] {0, -1, 1, -1, 1}, Feedback.decode(pattern));
+		Assert.assertFalse(guesser.isGuessCorrect());
+		Assert.assertEquals(Feedback.ALL_CORRECT, guesser.checkAccuracyPacked("abbey"));
+		assertTrue(guesser.isGuessCorrect());
+	}
+
+	@Test
+	void test5() {
+		testDictionary.initialize();
+		WordList before = testDictionary.getWordList();
+		WordList fresh = WordleDictionary.reload();
+		Assert.assertNotNull(fresh);
+		assertTrue(fresh.getVersion() > before.getVersion());
+		//a game in progress keeps its words until the next initialize
+		Assert.assertSame(before, testDictionary.getWordList());
+		testDictionary.initialize();
+		Assert.assertSame(fresh, testDictionary.getWordList());
+		Assert.assertSame(fresh, new WordleDictionary().getWordList());
+	}
+
 }
@@ -0,0 +1,80 @@
+package view_controller;
+
+import java.io.File;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the AssetCache class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - decode every image once and hand out the same Image after that, instead
+ *    of opening a FileInputStream and decoding it each time a pane is shown
+ *  - decode in the background (Image's background loading), so the FX thread
+ *    never waits for a file; an ImageView shows the image once it is ready
+ *  - find images on the classpath (resources is a source folder), then in
+ *    src/resources under the working directory
+ *
+ */
+public final class AssetCache {
+
+	private static final ConcurrentHashMap<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+	private AssetCache() {
+	}
+
+	/***
+	 * Start decoding images before they are needed
+	 *
+	 * @param names - the file names in resources
+	 */
+	public static void preload(String... names) {
+		for (String name : names) {
+			image(name);
+		}
+	}
+
+	/***
+	 * Get an image, decoding it the first time
+	 *
+	 * @param name - the file name in resources
+	 * @return - the Image, possibly still loading, or null if the file can't
+	 *         be found
+	 */
+	public static Image image(String name) {
+		Image image = IMAGES.get(name);
+		if (image == null) {
+			URL url = find(name);
+			if (url == null) {
+				return null;
+			}
+			image = IMAGES.computeIfAbsent(name, key -> new Image(url.toExternalForm(), true));
+		}
+		return image;
+	}
+
+	/***
+	 * Helper method to find a resource file
+	 *
+	 * @param name - the file name in resources
+	 * @return - the URL of the file, or null if it can't be found
+	 */
+	private static URL find(String name) {
+		URL url = AssetCache.class.getResource("/resources/" + name);
+		if (url == null) {
+			File file = new File("src/resources/" + name);
+			try {
+				url = file.isFile() ? file.toURI().toURL() : null;
+			} catch (Exception e) {
+				// no image is better than no game
+				e.printStackTrace();
+			}
+		}
+		return url;
+	}
+}
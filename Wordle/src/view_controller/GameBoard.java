@@ -0,0 +1,231 @@
+package view_controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the GameBoard class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - build the 6x5 tiles and the on screen keyboard once
+ *  - start a new game on the same nodes: reset clears every tile and key in
+ *    one pass, so a new game creates no nodes and does no layout of new ones
+ *  - give tiles and keys the style classes of wordle.css; their colors come
+ *    from the stylesheet and their Theme state, never from inline styles
+ *
+ */
+public class GameBoard {
+
+	public static final int ROWS = 6;
+	public static final int COLUMNS = 5;
+
+	// The board and its tiles, tiles[row][col]
+	private final GridPane grid = new GridPane();
+	private final Label[][] tiles = new Label[ROWS][COLUMNS];
+
+	// The keyboard, its rows and every key on it
+	private final VBox keyboard = new VBox(7);
+	private final HBox topRow = new HBox(6);
+	private final HBox midRow = new HBox(6);
+	private final HBox bottomRow = new HBox(6);
+	private final Button enter = new Button("ENTER");
+	private final Button delete = new Button("DELETE");
+	private final List<Button> letterKeys = new ArrayList<>(26);
+	private final Button[] keysByLetter = new Button[26];
+	private final List<Button> keys = new ArrayList<>(28);
+
+	/***
+	 * Constructor for GameBoard, builds every tile and key
+	 */
+	public GameBoard() {
+		initializeTiles();
+		initializeKeyboard();
+	}
+
+	/***
+	 * Start over: every tile empty, every key unused, board and keyboard
+	 * enabled. The nodes stay where they are.
+	 */
+	public void reset() {
+		for (Label[] row : tiles) {
+			for (Label tile : row) {
+				tile.setText("");
+				Theme.setState(tile, null);
+				// a stopped animation may leave a tile turned or moved
+				tile.setRotate(0);
+				tile.setScaleX(1);
+				tile.setScaleY(1);
+				tile.setTranslateX(0);
+			}
+		}
+		for (Button key : keys) {
+			Theme.setState(key, null);
+		}
+		grid.setDisable(false);
+		keyboard.setDisable(false);
+	}
+
+	/***
+	 * Helper method to create the tiles
+	 */
+	private void initializeTiles() {
+		// Loops through and creates a new Label for the Board
+		for (int col = 0; col < COLUMNS; col++) {
+			for (int row = 0; row < ROWS; row++) {
+				Label box = new Label();
+				box.setFont(Font.font("Lucida Console", FontWeight.EXTRA_BOLD, 60));
+				box.setAlignment(Pos.CENTER);
+				box.setMinSize(75, 75);
+				box.getStyleClass().add(Theme.TILE_CLASS);
+				tiles[row][col] = box;
+				grid.add(box, col, row);
+			}
+		}
+		// Formatting the GridPane to have all buttons aligned nicely
+		grid.setAlignment(Pos.TOP_CENTER);
+		grid.setHgap(8);
+		grid.setVgap(10);
+		grid.setPadding(new Insets(30, 10, 10, 10));
+	}
+
+	/***
+	 * Helper method to create the on screen keyboard
+	 */
+	private void initializeKeyboard() {
+		fillKeyboardRow(topRow, "qwertyuiop".toCharArray());
+		fillKeyboardRow(midRow, "asdfghjkl".toCharArray());
+
+		bottomRow.getChildren().add(enter);
+		fillKeyboardRow(bottomRow, "zxcvbnm".toCharArray());
+		bottomRow.getChildren().add(delete);
+
+		// Sets alignment for each keyboard row
+		topRow.setAlignment(Pos.TOP_CENTER);
+		midRow.setAlignment(Pos.TOP_CENTER);
+		bottomRow.setAlignment(Pos.TOP_CENTER);
+
+		enter.setMinSize(68, 52);
+		delete.setMinSize(68, 52);
+		enter.setFont(Font.font("Lucida Console", FontWeight.BOLD, 20));
+		delete.setFont(Font.font("Lucida Console", FontWeight.BOLD, 20));
+		enter.getStyleClass().add(Theme.KEY_CLASS);
+		delete.getStyleClass().add(Theme.KEY_CLASS);
+		keys.add(enter);
+		keys.add(delete);
+
+		keyboard.getChildren().addAll(topRow, midRow, bottomRow);
+		keyboard.setPadding(new Insets(20, 10, 100, 10));
+	}
+
+	/***
+	 * Helper method to fill a keyboard row
+	 *
+	 * @param box     - the HBox for the fill
+	 * @param letters - the character array containing the letters
+	 */
+	private void fillKeyboardRow(HBox box, char[] letters) {
+		for (char letter : letters) {
+			String let = String.valueOf(letter).toUpperCase();
+			Button button = new Button(let);
+
+			button.setMinSize(40, 50);
+			button.setFont(Font.font("Lucida Console", FontWeight.BOLD, 30));
+			button.setFocusTraversable(false);
+			button.getStyleClass().add(Theme.KEY_CLASS);
+			box.getChildren().add(button);
+			letterKeys.add(button);
+			keysByLetter[letter - 'a'] = button;
+			keys.add(button);
+		}
+	}
+
+	/***
+	 * getter for a tile
+	 *
+	 * @param row - the guess row 0-5
+	 * @param col - the letter 0-4
+	 * @return - the Label of the tile
+	 */
+	public Label getTile(int row, int col) {
+		return tiles[row][col];
+	}
+
+	/***
+	 * getter for the tiles of a row
+	 *
+	 * @param row - the guess row 0-5
+	 * @return - the five Labels of the row, not a copy
+	 */
+	public Label[] getRow(int row) {
+		return tiles[row];
+	}
+
+	/***
+	 * getter for the board
+	 *
+	 * @return - the GridPane holding the tiles
+	 */
+	public GridPane getGrid() {
+		return grid;
+	}
+
+	/***
+	 * getter for the keyboard
+	 *
+	 * @return - the VBox holding the keyboard rows
+	 */
+	public VBox getKeyboard() {
+		return keyboard;
+	}
+
+	/***
+	 * getter for the enter key
+	 *
+	 * @return - the ENTER Button
+	 */
+	public Button getEnter() {
+		return enter;
+	}
+
+	/***
+	 * getter for the delete key
+	 *
+	 * @return - the DELETE Button
+	 */
+	public Button getDelete() {
+		return delete;
+	}
+
+	/***
+	 * getter for the key of a letter
+	 *
+	 * @param letter - the letter 0-25 for a-z
+	 * @return - the Button of the letter
+	 */
+	public Button getKey(int letter) {
+		return keysByLetter[letter];
+	}
+
+	/***
+	 * getter for the letter keys
+	 *
+	 * @return - the 26 letter Buttons in keyboard order
+	 */
+	public List<Button> getLetterKeys() {
+		return Collections.unmodifiableList(letterKeys);
+	}
+}
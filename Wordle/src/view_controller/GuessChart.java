@@ -0,0 +1,75 @@
+package view_controller;
+
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import model.Credentials;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the GuessChart class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - build the guess distribution bar chart once
+ *  - show another player's or a newer distribution by changing the six bars
+ *    in place
+ *
+ */
+public class GuessChart {
+
+	private final NumberAxis yAxis = new NumberAxis();
+	private final BarChart<String, Number> chart;
+	private final XYChart.Series<String, Number> playerGuessDistribution = new XYChart.Series<>();
+
+	/***
+	 * Constructor for GuessChart, every bar at zero
+	 */
+	public GuessChart() {
+		//create bar chart, category so we can have names on the xAxis and a numberAxis for the y
+		yAxis.setTickUnit(1);
+		yAxis.setAutoRanging(false);
+		yAxis.setMinorTickVisible(false);
+		yAxis.setMinorTickCount(0);
+		yAxis.setStyle("-fx-text-fill: white;");
+		//create x-Axis
+		CategoryAxis xAxis = new CategoryAxis();
+		xAxis.setStyle("-fx-text-fill: white;");
+		chart = new BarChart<>(xAxis, yAxis);
+		chart.setTitle("Guess Distribution");
+		chart.getYAxis().setLabel("Total Games");
+		// new numbers show in the next frame instead of growing into place
+		chart.setAnimated(false);
+		//create guess distribution series
+		for (int guess = 1; guess <= 6; guess++) {
+			playerGuessDistribution.getData().add(new XYChart.Data<>("Guess" + guess, 0));
+		}
+		//add series to chart
+		chart.getData().add(playerGuessDistribution);
+		chart.setStyle("-fx-background-color: #8f8f8f");
+	}
+
+	/***
+	 * Show a player's guess distribution
+	 *
+	 * @param stats - the player's statistics
+	 */
+	public void update(Credentials stats) {
+		int[] guessDistribution = stats.getGuessDistribution();
+		yAxis.setUpperBound(stats.getNumGamesPlayed());
+		for (int i = 0; i < playerGuessDistribution.getData().size(); i++) {
+			playerGuessDistribution.getData().get(i).setYValue(guessDistribution[i]);
+		}
+	}
+
+	/***
+	 * getter for the chart
+	 *
+	 * @return - the BarChart Node
+	 */
+	public BarChart<String, Number> getChart() {
+		return chart;
+	}
+}
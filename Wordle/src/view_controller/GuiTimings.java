@@ -0,0 +1,231 @@
+package view_controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the GuiTimings class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - time work on the FX thread (a guess, a new game, the pulse after a
+ *    theme switch, a result popup, a sound) when the game is run with
+ *    -Dwordle.timings=true, and do nothing otherwise
+ *  - add up the count, average and max of every kind of timing and print
+ *    them when the program exits
+ *
+ * The panes only call start and record; when timings are off start returns
+ * 0 and nothing is kept, no pulse listener is added and no frame timer runs.
+ *
+ */
+public final class GuiTimings {
+
+	/***
+	 * True when run with -Dwordle.timings=true
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean("wordle.timings");
+
+	/***
+	 * The timings so far by name, in the order they were first recorded
+	 */
+	private static final Map<String, Stats> STATS = new LinkedHashMap<>();
+
+	static {
+		if (ENABLED) {
+			Runtime.getRuntime().addShutdownHook(new Thread(GuiTimings::printReport, "gui-timings"));
+		}
+	}
+
+	private GuiTimings() {
+	}
+
+	/***
+	 * Start timing something
+	 *
+	 * @return - the start time to pass to record, 0 when timings are off
+	 */
+	public static long start() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	/***
+	 * Record the time since start
+	 *
+	 * @param name - what was timed, starts its line of the report
+	 * @param start - the time from start
+	 */
+	public static void record(String name, long start) {
+		if (ENABLED) {
+			add(name, System.nanoTime() - start, -1);
+		}
+	}
+
+	/***
+	 * Get the bytes the FX thread has allocated so far, to pass to
+	 * recordWithAllocation
+	 *
+	 * @return - the bytes, 0 when timings are off or the JVM can't tell
+	 */
+	public static long allocatedBytes() {
+		if (!ENABLED) {
+			return 0;
+		}
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+		}
+		return 0;
+	}
+
+	/***
+	 * Record the time since start and the bytes allocated since
+	 *
+	 * @param name - what was timed, starts its line of the report
+	 * @param start - the time from start
+	 * @param allocated - the bytes from allocatedBytes
+	 */
+	public static void recordWithAllocation(String name, long start, long allocated) {
+		if (ENABLED) {
+			add(name, System.nanoTime() - start, allocatedBytes() - allocated);
+		}
+	}
+
+	/***
+	 * Record the time since start plus the CSS and layout pass of the next
+	 * pulse of a scene, leaving out the wait for the pulse. The pre layout
+	 * listeners run just before the CSS pass, the post layout listeners just
+	 * after layout.
+	 *
+	 * @param scene - the scene that will be laid out
+	 * @param name - what was timed, starts its line of the report
+	 * @param start - the time from start
+	 */
+	public static void recordWithNextLayout(Scene scene, String name, long start) {
+		if (!ENABLED) {
+			return;
+		}
+		long before = System.nanoTime() - start;
+		long[] pulseStart = new long[1];
+		Runnable pre = () -> pulseStart[0] = System.nanoTime();
+		scene.addPreLayoutPulseListener(pre);
+		scene.addPostLayoutPulseListener(new Runnable() {
+			@Override
+			public void run() {
+				add(name, before + System.nanoTime() - pulseStart[0], -1);
+				scene.removePreLayoutPulseListener(pre);
+				scene.removePostLayoutPulseListener(this);
+			}
+		});
+	}
+
+	/***
+	 * Record the time from start until the next layout pass of a scene is
+	 * done, such as a popup from show to its first frame
+	 *
+	 * @param scene - the scene that will be laid out
+	 * @param name - what was timed, starts its line of the report
+	 * @param start - the time from start
+	 */
+	public static void recordUntilNextLayout(Scene scene, String name, long start) {
+		if (!ENABLED) {
+			return;
+		}
+		scene.addPostLayoutPulseListener(new Runnable() {
+			@Override
+			public void run() {
+				add(name, System.nanoTime() - start, -1);
+				scene.removePostLayoutPulseListener(this);
+			}
+		});
+	}
+
+	/***
+	 * Record the time between frames while a condition holds. The running
+	 * timer makes JavaFX draw a frame on every pulse, so it is only started
+	 * when timings are on. A frame of more than twice 16.7 ms is a dropped
+	 * frame at 60 fps.
+	 *
+	 * @param name - what was timed, starts its line of the report
+	 * @param condition - checked every frame, frames are timed while true
+	 */
+	public static void recordFrames(String name, BooleanSupplier condition) {
+		if (!ENABLED) {
+			return;
+		}
+		new AnimationTimer() {
+			private long lastFrame;
+
+			@Override
+			public void handle(long now) {
+				if (condition.getAsBoolean() && lastFrame != 0) {
+					add(name, now - lastFrame, -1);
+				}
+				lastFrame = now;
+			}
+		}.start();
+	}
+
+	/***
+	 * Helper method to add one timing
+	 *
+	 * @param name - what was timed
+	 * @param nanos - how long it took
+	 * @param bytes - the bytes allocated, or -1 if not measured
+	 */
+	private static synchronized void add(String name, long nanos, long bytes) {
+		STATS.computeIfAbsent(name, Stats::new).add(nanos, bytes);
+	}
+
+	/***
+	 * Helper method to print every timing, run when the program exits
+	 */
+	private static synchronized void printReport() {
+		for (Stats stats : STATS.values()) {
+			System.out.println(stats);
+		}
+	}
+
+	/***
+	 * Count, total and max of one kind of timing
+	 */
+	private static final class Stats {
+		private final String name;
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+		private long totalBytes;
+		private boolean bytesKnown;
+
+		Stats(String name) {
+			this.name = name;
+		}
+
+		void add(long nanos, long bytes) {
+			count++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+			if (bytes >= 0) {
+				totalBytes += bytes;
+				bytesKnown = true;
+			}
+		}
+
+		@Override
+		public String toString() {
+			String report = String.format("%s: %d, avg %.3f ms, max %.3f ms", name, count,
+					totalNanos / (double) count / 1e6, maxNanos / 1e6);
+			if (bytesKnown) {
+				report += String.format(", avg %d bytes allocated", totalBytes / count);
+			}
+			return report;
+		}
+	}
+}
@@ -14,6 +14,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import model.AccountRepository;
 import model.WordleAccount;
 
 /**
@@ -78,6 +79,14 @@ public class LoginCreateAccountPane extends GridPane {
 			alert.show();
 			return;
 		}
+		if (newAccount && !AccountRepository.isValidAccount(name, password)) {
+			Alert alert = new Alert(AlertType.WARNING);
+			alert.setContentText("Usernames can be at most " + AccountRepository.MAX_NAME_LENGTH
+					+ " characters and passwords at most " + AccountRepository.MAX_PASSWORD_LENGTH
+					+ " characters. Try Again");
+			alert.show();
+			return;
+		}
 		account = new WordleAccount(name, password, newAccount);
 
 		if (account.getAccountAuthenticationStatus() == false) {
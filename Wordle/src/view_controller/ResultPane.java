@@ -1,19 +1,11 @@
 package view_controller;
 
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-
 import javafx.animation.PauseTransition;
 import javafx.animation.TranslateTransition;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
-import javafx.scene.chart.BarChart;
-import javafx.scene.chart.CategoryAxis;
-import javafx.scene.chart.NumberAxis;
-import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
@@ -24,39 +16,43 @@ import model.Credentials;
 import model.WordleAccount;
 
 /***
- * 
+ *
  * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
- * 
+ *
  * This is the ResultPane class for the GUI interface.
- * 
+ *
  * Responsibilities:
  *  - create the results pane
  *  - display the bar graph of the user's guess distribution
+ *  - build every node once and only change texts, bars and images when a
+ *    game ends, so the popup shows in the next frame
  *
  */
 
 public class ResultPane {
-	
+
 	/***
 	 * The main stage for the GUI pane elements
 	 */
 	private BorderPane window = new BorderPane();
-	
+
 	/***
 	 * The stage
 	 */
 	Stage stage;
-	
+
 	/***
 	 * Setup stat box for endgame
 	 */
 	private VBox statBox;
-	
+
 	/***
 	 * Setup top pane for endgame
 	 */
 	private VBox header;
-	
+	private Text topper = new Text();
+	private Text correctWord = new Text();
+
 	/***
 	 * Setup the other labels for stats box
 	 */
@@ -67,217 +63,156 @@ public class ResultPane {
 	private Label maxStreak = new Label();
 
 	/***
-	 * the correct word
+	 * The guess distribution, or a note for players not logged in
+	 */
+	private GuessChart guessChart = new GuessChart();
+	private Text logInNote = new Text("Create an account or log in to see your guess distribution!");
+
+	/***
+	 * The confused man for a loss and the jumping man for a win
 	 */
-	private String finalWord;
-	
+	private ImageView lostView = imageView("lostMan.png", Pos.CENTER);
+	private ImageView onGroundView = imageView("onGround.png", Pos.BOTTOM_CENTER);
+	private ImageView inAirView = imageView("inAir.jpg", Pos.BOTTOM_CENTER);
+	private TranslateTransition jumpTransition = new TranslateTransition(Duration.seconds(1.5), inAirView);
+	private PauseTransition pause = new PauseTransition(Duration.seconds(1));
+
 	/***
-	 * Constructor for ResultPane class
-	 * 
+	 * Constructor for ResultPane class, builds the pane without showing it
+	 *
 	 * @param stage - the stage to show the scene on
-	 * @param account - the Wordle Account 
-	 * @param win - boolean, true if game has been won, false otherwise
 	 */
-	public ResultPane(Stage stage, WordleAccount account, boolean win, String correctWord) {
+	public ResultPane(Stage stage) {
 		this.stage = stage;
-		finalWord = correctWord;
 		// create new scene
 		Scene scene = new Scene(window, 600, 600);
-		if (win) {
-			setUpPaneWin(account);
-			setUpRightPaneWin();
-		} else {
-			setUpPaneLose(account);
-			setUpRightPaneLost();
-		}
-						
+		setUpPane();
+		setUpJump();
+
 		// set title for the stage
 		stage.setTitle("WORDLE RESULTS");
 		stage.setScene(scene);
-		
-		stage.showAndWait();
-		
+		// the man stops jumping while nobody looks
+		stage.setOnHidden(e -> stopJumping());
 	}
 
 	/***
-	 * This method displays a confused man when the user loses the game
-	 */
-	private void setUpRightPaneLost() {
-	    try {
-	        Image loseImage = new Image(new FileInputStream("src/resources/lostMan.png"));
-	        ImageView view = new ImageView(loseImage);
-	        view.setFitHeight(300);
-	        view.setFitWidth(250);
-	        // center the image in the right pane
-	        BorderPane.setAlignment(view, Pos.CENTER);
-	        window.setRight(view);
-	    } catch (FileNotFoundException e) {
-	        e.printStackTrace();
-	    };
-	}
-	
-	/***
-	 * This method will display a jumping animation when the user wins the game
+	 * Show the result of a game and wait until it is closed
+	 *
+	 * @param account - the Wordle Account, null if nobody is logged in
+	 * @param win - boolean, true if game has been won, false otherwise
+	 * @param word - the correct word
 	 */
-	private void setUpRightPaneWin() {
-	    try {
-	        Image onGroundImage = new Image(new FileInputStream("src/resources/onGround.png"));
-	        ImageView onGroundView = new ImageView(onGroundImage);
-	        onGroundView.setFitHeight(300);
-	        onGroundView.setFitWidth(250);
-	        BorderPane.setAlignment(onGroundView, Pos.BOTTOM_CENTER);
-
-	        Image inAirImage = new Image(new FileInputStream("src/resources/inAir.jpg"));
-	        ImageView inAirView = new ImageView(inAirImage);
-	        inAirView.setFitHeight(300);
-	        inAirView.setFitWidth(250);
-	        BorderPane.setAlignment(inAirView, Pos.BOTTOM_CENTER); // center the image in the right pane
-
-	        // create a translate transition for the in-air image
-	        TranslateTransition jumpTransition = new TranslateTransition(Duration.seconds(1.5), inAirView);
-	        //move the image up 
-	        jumpTransition.setByY(-150); 
-	        //reverse it
-	        jumpTransition.setAutoReverse(true);
-	        //repeat the animation twice
-	        jumpTransition.setCycleCount(2); 
-
-	        //switch images and start the animation when the first animation ends
-	        jumpTransition.setOnFinished(event -> {
-	            window.setRight(onGroundView);
-	            PauseTransition pause = new PauseTransition(Duration.seconds(1)); // wait for 1 second
-	            pause.setOnFinished(e -> {
-	                window.setRight(inAirView); // switch back to the in-air image
-	                jumpTransition.play(); 
-	            });
-	            pause.play();
-	        });
+	public void show(WordleAccount account, boolean win, String word) {
+		long start = GuiTimings.start();
+		topper.setText(win ? "Congratulations! You got it!" : "Darn! You'll get it next time!");
+		correctWord.setText("Correct Word: " + word);
+		showStats(account);
+		stopJumping();
+		if (win) {
+			// start with the on-ground image and the jump animation
+			window.setRight(onGroundView);
+			jumpTransition.play();
+		} else {
+			window.setRight(lostView);
+		}
 
-	        window.setRight(onGroundView); // start with the on-ground image
-	        jumpTransition.play(); // start the jump animation
-	    } catch (FileNotFoundException e) {
-	        e.printStackTrace();
-	    }
+		// from show to the first frame laid out
+		GuiTimings.recordUntilNextLayout(stage.getScene(), "Result popups", start);
+		if (stage.isShowing()) {
+			// a new game was finished with the last result still open
+			stage.toFront();
+		} else {
+			stage.showAndWait();
+		}
 	}
 
 	/***
-	 * This will create/setup the pane when the user loses a game.
-	 * 
-	 * @param account - null if there is no user signed in, not null if there is
+	 * This will create/setup the parts of the pane every result has
 	 */
-	private void setUpPaneLose(WordleAccount account) {
-		Text topper = new Text("Darn! You'll get it next time!");
-		Text correctWord = new Text("Correct Word: " + finalWord);
+	private void setUpPane() {
 		topper.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-		
 		header = new VBox(topper, correctWord);
 		header.setAlignment(Pos.TOP_CENTER);
-		
 		window.setTop(header);
 		window.setStyle("-fx-background-color: #8f8f8f");
-		//If someone is signed in, show their guess distribution
-		if (account != null) {
-			window.setCenter(setUpGraph(account));
-		} else {
-			window.setCenter(new Text("Create an account or log in to see your guess distribution!"));
-		}
-		
-		if (account != null) {
-			//Setup labels for bottom of border pane
-			stats.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			gamesPlayedText.setText("  Games Played: " + account.getStats().getNumGamesPlayed());
-			gamesPlayedText.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			double percent = (account.getStats().getNumGamesWon() *100 / account.getStats().getNumGamesPlayed());
-			gamesWonPercentage.setText("  Games Won: " + percent + "%");
-			gamesWonPercentage.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			winStreakDetails.setText("  Current Winstreak: " + account.getStats().getCurrentWinningStreak());
-			winStreakDetails.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			maxStreak.setText("  Max Winstreak: "+ account.getStats().getMaxWinningStreak());
-			maxStreak.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			statBox = new VBox(stats, gamesWonPercentage, winStreakDetails, maxStreak);
-			
-			window.setBottom(statBox);
-		}	
+
+		//Setup labels for bottom of border pane
+		stats.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
+		gamesPlayedText.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
+		gamesWonPercentage.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
+		winStreakDetails.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
+		maxStreak.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
+		statBox = new VBox(stats, gamesWonPercentage, winStreakDetails, maxStreak);
 	}
 
 	/***
-	 * This will create/setup the pane when the user wins a game.
-	 * 
+	 * This will fill in the statistics of the player, if someone is logged in
+	 *
 	 * @param account - null if there is no user signed in, not null if there is
 	 */
-	private void setUpPaneWin(WordleAccount account) {
-		Text topper = new Text("Darn! You'll get it next time!");
-		Text correctWord = new Text("Correct Word: " + finalWord);
-		topper.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-		
-		header = new VBox(topper, correctWord);
-		header.setAlignment(Pos.TOP_CENTER);
-		
-		window.setTop(header);
-		window.setStyle("-fx-background-color: #8f8f8f");
+	private void showStats(WordleAccount account) {
 		//If someone is signed in, show their guess distribution
-		if (account != null) {
-			window.setCenter(setUpGraph(account));
-		} else {
-			window.setCenter(new Text("Create an account or log in to see your guess distribution!"));
+		if (account == null) {
+			window.setCenter(logInNote);
+			window.setBottom(null);
+			return;
 		}
-		
-		if (account != null) {
-			//Setup labels for bottom of border pane
-			stats.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			gamesPlayedText.setText("  Games Played: " + account.getStats().getNumGamesPlayed());
-			gamesPlayedText.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			double percent = (account.getStats().getNumGamesWon() *100 / account.getStats().getNumGamesPlayed());
-			gamesWonPercentage.setText("  Games Won: " + percent + "%");
-			gamesWonPercentage.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			winStreakDetails.setText("  Current Winstreak: " + account.getStats().getCurrentWinningStreak());
-			winStreakDetails.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			maxStreak.setText("  Max Winstreak: "+ account.getStats().getMaxWinningStreak());
-			maxStreak.setStyle("-fx-font-family: \"Gill Sans\"; -fx-font-size: 14pt;");
-			statBox = new VBox(stats, gamesWonPercentage, winStreakDetails, maxStreak);
-			
-			window.setBottom(statBox);
-		}	
+		Credentials credentials = account.getStats();
+		guessChart.update(credentials);
+		window.setCenter(guessChart.getChart());
+
+		gamesPlayedText.setText("  Games Played: " + credentials.getNumGamesPlayed());
+		double percent = (credentials.getNumGamesWon() * 100 / credentials.getNumGamesPlayed());
+		gamesWonPercentage.setText("  Games Won: " + percent + "%");
+		winStreakDetails.setText("  Current Winstreak: " + credentials.getCurrentWinningStreak());
+		maxStreak.setText("  Max Winstreak: " + credentials.getMaxWinningStreak());
+		window.setBottom(statBox);
+	}
+
+	/***
+	 * This will setup the jumping animation for a win
+	 */
+	private void setUpJump() {
+		//move the image up
+		jumpTransition.setByY(-150);
+		//reverse it
+		jumpTransition.setAutoReverse(true);
+		//repeat the animation twice
+		jumpTransition.setCycleCount(2);
+
+		//switch images and start the animation when the first animation ends
+		jumpTransition.setOnFinished(event -> {
+			window.setRight(onGroundView);
+			pause.play();
+		});
+		pause.setOnFinished(e -> {
+			window.setRight(inAirView); // switch back to the in-air image
+			jumpTransition.play();
+		});
+	}
+
+	/***
+	 * Helper method to stop the jumping animation where it started
+	 */
+	private void stopJumping() {
+		jumpTransition.stop();
+		pause.stop();
+		inAirView.setTranslateY(0);
 	}
 
 	/***
-	 * Setup the guess distribution cahrt to go in the center of the border pane to show the 
-	 * current logged in user's guess distribution
-	 * 
-	 * @return - The BarChart Node to go in the center of the border pane 
+	 * Helper method to make a view of a cached image for the right pane
+	 *
+	 * @param name - the image file in resources
+	 * @param position - where the image goes in the right pane
+	 * @return - the ImageView
 	 */
-	private BarChart<String, Number> setUpGraph(WordleAccount account) {
-		//get credentials for account
-		Credentials stats = account.getStats();
-		int[] guessDistribution = stats.getGuessDistribution();
-		//create bar chart, category so we can have names on the xAxis and a numberAxis for the y
-		NumberAxis yAxis = new NumberAxis();
-		yAxis.setUpperBound(stats.getNumGamesPlayed());
-		yAxis.setTickUnit(1);
-		yAxis.setAutoRanging(false);
-		yAxis.setMinorTickVisible(false);
-		yAxis.setMinorTickCount(0);
-		yAxis.setStyle("-fx-text-fill: white;");
-		//create x-Axis
-		CategoryAxis xAxis = new CategoryAxis();
-		xAxis.setStyle("-fx-text-fill: white;");
-		BarChart<String, Number> guessChart = new BarChart<>(xAxis, yAxis);
-		guessChart.setTitle("Guess Distribution");
-		guessChart.getYAxis().setLabel("Total Games");
-		//create guess distribution series
-		XYChart.Series<String, Number> playerGuessDistribution = new XYChart.Series<>();
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess1", guessDistribution[0]));
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess2", guessDistribution[1]));
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess3", guessDistribution[2]));
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess4", guessDistribution[3]));
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess5", guessDistribution[4]));
-		playerGuessDistribution.getData().add(new XYChart.Data<>("Guess6", guessDistribution[5]));
-		//add series to chart
-		guessChart.getData().add(playerGuessDistribution);
-		guessChart.setStyle("-fx-background-color: #8f8f8f");
-		//return chart
-		return guessChart;
+	private static ImageView imageView(String name, Pos position) {
+		ImageView view = new ImageView(AssetCache.image(name));
+		view.setFitHeight(300);
+		view.setFitWidth(250);
+		BorderPane.setAlignment(view, position);
+		return view;
 	}
-	
-	
 }
@@ -0,0 +1,146 @@
+package view_controller;
+
+import java.io.File;
+import java.net.URL;
+import java.util.EnumMap;
+
+import javafx.scene.media.AudioClip;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the SoundEffects class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - decode every sound effect once into an AudioClip and reuse it, instead of
+ *    building a Media and MediaPlayer per key press
+ *  - play sounds on top of each other (an AudioClip can overlap itself)
+ *  - mute and volume for every sound
+ *  - time each play call with GuiTimings, so keystroke to sound latency can
+ *    be checked at any typing rate
+ *
+ */
+public class SoundEffects {
+
+	/***
+	 * The sound effects and the rate each one is played at
+	 */
+	public enum Sound {
+		TYPE("punch.mp3", 1.06), DELETE("woosh.mp3", 1.15), VALID("valid.mp3", 1.12), WRONG("wrong.mp3", 1.15),
+		WIN("win.mp3", 1.0), LOSE("lose.mp3", 1.0);
+
+		private final String file;
+		private final double rate;
+
+		Sound(String file, double rate) {
+			this.file = file;
+			this.rate = rate;
+		}
+	}
+
+	/***
+	 * Decoded clips, filled by preload or the first time a sound plays
+	 */
+	private final EnumMap<Sound, AudioClip> clips = new EnumMap<>(Sound.class);
+
+	private volatile boolean muted;
+	private volatile double volume = 1.0;
+
+	/***
+	 * Decode every sound on a background thread so the first key press doesn't
+	 * wait for it
+	 */
+	public void preload() {
+		Thread loader = new Thread(() -> {
+			for (Sound sound : Sound.values()) {
+				clip(sound);
+			}
+		}, "sound-preload");
+		loader.setDaemon(true);
+		loader.start();
+	}
+
+	/***
+	 * Play a sound. Does nothing when muted or the sound file is missing.
+	 *
+	 * @param sound - the sound to play
+	 */
+	public void play(Sound sound) {
+		if (muted) {
+			return;
+		}
+		long start = GuiTimings.start();
+		AudioClip clip = clip(sound);
+		if (clip != null) {
+			clip.play(volume, 0.0, sound.rate, 0.0, 0);
+		}
+		GuiTimings.record("Sound play calls", start);
+	}
+
+	/***
+	 * getter for mute
+	 *
+	 * @return - true if no sound is played
+	 */
+	public boolean isMuted() {
+		return muted;
+	}
+
+	/***
+	 * setter for mute
+	 *
+	 * @param muted - true to stop playing sounds
+	 */
+	public void setMuted(boolean muted) {
+		this.muted = muted;
+	}
+
+	/***
+	 * getter for the volume
+	 *
+	 * @return - the volume from 0.0 to 1.0
+	 */
+	public double getVolume() {
+		return volume;
+	}
+
+	/***
+	 * setter for the volume of every sound
+	 *
+	 * @param volume - the volume from 0.0 (silent) to 1.0 (full)
+	 */
+	public void setVolume(double volume) {
+		this.volume = Math.max(0.0, Math.min(1.0, volume));
+	}
+
+	/***
+	 * Helper method to get the clip for a sound, decoding it the first time.
+	 * Looks on the classpath first (resources is a source folder), then in
+	 * src/resources under the working directory.
+	 *
+	 * @param sound - the sound
+	 * @return - the clip, or null if the file can't be found
+	 */
+	private synchronized AudioClip clip(Sound sound) {
+		if (clips.containsKey(sound)) {
+			return clips.get(sound);
+		}
+		AudioClip clip = null;
+		try {
+			URL url = SoundEffects.class.getResource("/resources/" + sound.file);
+			if (url == null) {
+				File file = new File("src/resources/" + sound.file);
+				url = file.isFile() ? file.toURI().toURL() : null;
+			}
+			if (url != null) {
+				clip = new AudioClip(url.toExternalForm());
+			}
+		} catch (Exception e) {
+			// no sound is better than no game
+			e.printStackTrace();
+		}
+		clips.put(sound, clip);
+		return clip;
+	}
+}
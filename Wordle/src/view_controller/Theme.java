@@ -0,0 +1,111 @@
+package view_controller;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+/***
+ *
+ * @author Chris Castillo, Anisha Munjal, Michael Beccarelli, Edan Uccetta
+ *
+ * This is the Theme class for the GUI interface.
+ *
+ * Responsibilities:
+ *  - find the stylesheet with every color of the game, wordle.css
+ *  - switch between dark and light mode with one pseudo-class on the root
+ *    pane, so no style is parsed and only the CSS pass of the next pulse
+ *    does any work
+ *  - set the state of a tile or key (current, filled, correct, present,
+ *    absent) by toggling pseudo-classes instead of assigning inline styles
+ *
+ */
+public final class Theme {
+
+	// Style classes the stylesheet uses
+	public static final String ROOT_CLASS = "wordle";
+	public static final String TITLE_CLASS = "title";
+	public static final String TILE_CLASS = "tile";
+	public static final String KEY_CLASS = "key";
+
+	// Theme of the root pane
+	public static final PseudoClass DARK = PseudoClass.getPseudoClass("dark");
+	public static final PseudoClass LIGHT = PseudoClass.getPseudoClass("light");
+
+	// States of a tile or key, at most one at a time
+	public static final PseudoClass CURRENT = PseudoClass.getPseudoClass("current");
+	public static final PseudoClass FILLED = PseudoClass.getPseudoClass("filled");
+	public static final PseudoClass CORRECT = PseudoClass.getPseudoClass("correct");
+	public static final PseudoClass PRESENT = PseudoClass.getPseudoClass("present");
+	public static final PseudoClass ABSENT = PseudoClass.getPseudoClass("absent");
+
+	private static final PseudoClass[] STATES = { CURRENT, FILLED, CORRECT, PRESENT, ABSENT };
+
+	private static final String STYLESHEET = "wordle.css";
+
+	private Theme() {
+	}
+
+	/***
+	 * Find the stylesheet. Looks on the classpath first (resources is a source
+	 * folder), then in src/resources under the working directory.
+	 *
+	 * @return - the URL of the stylesheet, or null if it can't be found
+	 */
+	public static String stylesheet() {
+		URL url = Theme.class.getResource("/resources/" + STYLESHEET);
+		if (url == null) {
+			File file = new File("src/resources/" + STYLESHEET);
+			try {
+				url = file.isFile() ? file.toURI().toURL() : null;
+			} catch (MalformedURLException e) {
+				e.printStackTrace();
+			}
+		}
+		return url == null ? null : url.toExternalForm();
+	}
+
+	/***
+	 * Switch the theme of everything under a root pane
+	 *
+	 * @param root     - the pane with the ROOT_CLASS style class
+	 * @param darkMode - true for the dark colors
+	 */
+	public static void apply(Node root, boolean darkMode) {
+		root.pseudoClassStateChanged(DARK, darkMode);
+		root.pseudoClassStateChanged(LIGHT, !darkMode);
+	}
+
+	/***
+	 * Set the state of a tile or key, clearing the one it had
+	 *
+	 * @param node  - the tile or key
+	 * @param state - one of CURRENT, FILLED, CORRECT, PRESENT and ABSENT, or
+	 *              null for empty
+	 */
+	public static void setState(Node node, PseudoClass state) {
+		for (PseudoClass each : STATES) {
+			node.pseudoClassStateChanged(each, each == state);
+		}
+	}
+
+	/***
+	 * Get the state for a letter status of a guess
+	 *
+	 * @param status - -1 not in the word, 0 wrong place, 1 right place, see
+	 *               Feedback.statusAt
+	 * @return - ABSENT, PRESENT or CORRECT, or null for any other number
+	 */
+	public static PseudoClass forStatus(int status) {
+		if (status == -1) {
+			return ABSENT;
+		} else if (status == 0) {
+			return PRESENT;
+		} else if (status == 1) {
+			return CORRECT;
+		}
+		return null;
+	}
+}
@@ -1,17 +1,13 @@
 package view_controller;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
+import java.time.LocalDate;
 
 import javafx.animation.RotateTransition;
 import javafx.animation.ScaleTransition;
 import javafx.animation.SequentialTransition;
 import javafx.animation.TranslateTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -20,24 +16,23 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuButton;
 import javafx.scene.control.MenuItem;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.transform.Rotate;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import model.Feedback;
+import model.GuessPipeline;
+import model.KeyboardState;
 import model.Wordle;
 import model.WordleAccount;
+import model.WordleDictionary;
+import view_controller.SoundEffects.Sound;
 
 /**
  * 
@@ -70,31 +65,44 @@ public class WordleGUI extends Application {
 	private boolean darkModeOn = true;
 	private MenuItem stats = new MenuItem("Statistics");
 	private MenuItem newGame = new MenuItem("New Game");
+	private MenuItem dailyGame = new MenuItem("Daily Puzzle");
 	private MenuItem leaderBoard = new MenuItem("LeaderBoard");
+	private MenuItem mute = new MenuItem("Mute Sound");
 
-	// The container for the Wordle Board.
-	// Has an associated Label array to update as letters typed
-	private GridPane buttonContainer = new GridPane();
-	private Label[][] tileNodes = new Label[6][5];
-
-	// Keyboard Containers and elements in virtual keyboard
-	private VBox keyboardContainer = new VBox(7);
-	private HBox topRow = new HBox(6);
-	private HBox midRow = new HBox(6);
-	private HBox bottomRow = new HBox(6);
-	private Button enter = new Button("ENTER");
-	private Button delete = new Button("DELETE");
+	// Sound effects, decoded once and reused for every key press
+	private SoundEffects sounds = new SoundEffects();
+
+	// The Wordle Board and the virtual keyboard, built once and reset for every
+	// new game
+	private GameBoard board = new GameBoard();
+	private Button enter = board.getEnter();
+	private Button delete = board.getDelete();
 	private boolean disableBoardAndKeyBoard = false;
 
+	// The key colors revealed so far, bound to the keys of the board
+	private KeyboardState revealedKeys = new KeyboardState();
+
+	// Checks, scores and saves guesses off the FX thread and shows them back on
+	// it; typing is ignored while a guess is in flight
+	private GuessPipeline guessPipeline = new GuessPipeline(Platform::runLater);
+	private boolean guessInFlight = false;
+
+	// The flip of the last guess, stopped if a new game starts before it ends
+	private SequentialTransition guessFlip;
+
 	// Pop-up for Login Info
 	private view_controller.LoginCreateAccountPane loginPane;
 
 	// Pop-up for leaderBoard info
 	private view_controller.LeaderBoardPane leaderPane;
 
-	// Pop-up for results info
+	// Pop-up for results info, built at the first result and shown again
+	// with new data after that
 	private view_controller.ResultPane resultPane;
 
+	// Pop-up for statistics, built the first time it is asked for
+	private view_controller.StatisticsPane statisticsPane;
+
 	// Current User and Primary Stage to passin pop-up information
 	private WordleAccount currentUserLoggedIn;
 	private Stage primaryStage;
@@ -112,21 +120,43 @@ public class WordleGUI extends Application {
 	 * 
 	 */
 	public void start(Stage stage) throws Exception {
+		sounds.preload();
+		// decode the menu and result images in the background while the board is built
+		AssetCache.preload("test.png", "lostMan.png", "onGround.png", "inAir.jpg");
+		// pick up edits to the word lists at the next new game
+		WordleDictionary.watchForChanges();
 		initializeHeader();
-		initializeWordleBoard();
-		initializeKeyboard();
+		container.setCenter(board.getGrid());
+		container.setBottom(board.getKeyboard());
 
 		Scene scene = new Scene(container, 900, 1019);
+		String stylesheet = Theme.stylesheet();
+		if (stylesheet != null) {
+			scene.getStylesheets().add(stylesheet);
+		}
+		container.getStyleClass().add(Theme.ROOT_CLASS);
+		GuiTimings.recordFrames("Frames during guesses", () -> guessInFlight);
 
 		setupStageView(stage, scene);
 		registerKeyInputs();
 		registerVirtualKeyboardInputs();
 		registerHandlers();
-		darkMode();
-		letterCurrentStyle(tileNodes[currGuessRow][currLetter]);
+		revealedKeys.setListener((letter, status) -> {
+			Theme.setState(board.getKey(letter), Theme.forStatus(status - 1));
+		});
+		setTheme(true);
+		letterCurrentStyle(board.getTile(currGuessRow, currLetter));
 		enter.requestFocus();
 	}
 
+	@Override
+	/**
+	 * Stop method for the Wordle GUI, stops the guess pipeline's thread
+	 */
+	public void stop() {
+		guessPipeline.close();
+	}
+
 	/**
 	 * Receive logged in user
 	 */
@@ -170,84 +200,35 @@ public class WordleGUI extends Application {
 
 		// TODO FIX GUESS RETURNS NULL IF ITS NOT LONG ENOUGH (aka MUST BE 5)
 		enter.setOnKeyPressed((e) -> {
-			if (e.getCode() == KeyCode.ENTER) {
-
+			if (e.getCode() == KeyCode.ENTER && !guessInFlight) {
+				long start = GuiTimings.start();
 				String guess = getGuessInput(currGuessRow);
 
-				if (guess != null && wordleGame.wordCorrectionChecker.isValidWord(guess)) {
-
-					// get the status of the guess just made
-					int[] guessStatus = wordleGame.makeGuess(guess);
-
-					// if the game is won, trigger the animation, win panel and disable the keyboard
-					if (wordleGame.checkGameWon() == true) {
-						// if a user is logged in, update their starts
-						if (currentUserLoggedIn != null) {
-							currentUserLoggedIn.updateStats(true, currGuessRow);
-						}
-
-						flipRow(guessStatus);
-						disableBoardAndKeyBoard = true;
-						buttonContainer.setDisable(true);
-						keyboardContainer.setDisable(true);
-						winSound();
-						alertPopUpWin();
-						return;
-					}
-
-					// if the game is lost, trigger the animation, lose panel and disable the
-					// keyboard
-					if (currGuessRow == 5) {
-
-						// update the player stats with the loss if a user is logged in
-						if (currentUserLoggedIn != null) {
-							currentUserLoggedIn.updateStats(false, 0);
+				if (guess != null) {
+					// check and score the guess in the background, input is ignored
+					// until it is shown
+					guessInFlight = true;
+					guessPipeline.submit(wordleGame, currentUserLoggedIn, guess).whenComplete((result, error) -> {
+						if (error != null) {
+							error.printStackTrace();
+							guessInFlight = false;
+						} else {
+							showGuess(result);
 						}
-
-						flipRow(guessStatus);
-						disableBoardAndKeyBoard = true;
-						buttonContainer.setDisable(true);
-						keyboardContainer.setDisable(true);
-						loseSound();
-						alertPopUpLost();
-						return;
-					}
-					// increment guess level and reset current letter position
-					validSoundEffect();
-					flipRow(guessStatus);
-					currGuessRow++;
-					currLetter = 0;
-					letterCurrentStyle(tileNodes[currGuessRow][currLetter]);
+					});
 				} else {
-					// Guess isn't a valid Wordle guess (either too short, or not in the dictionary.
+					// Guess is too short
 					shake();
 				}
+				GuiTimings.record("Guess submits", start);
 			}
 			enter.requestFocus();
 		});
 
-		newGame.setOnAction((e) -> {
-			// Initializes a new Wordle Game
-			wordleGame = new Wordle();
+		newGame.setOnAction((e) -> startNewGame(false));
 
-			// Enables the Board and Keyboard
-			disableBoardAndKeyBoard = false;
-			buttonContainer.setDisable(false);
-			keyboardContainer.setDisable(false);
-
-			// Initializes a new Board and resets counters
-			buttonContainer = new GridPane();
-			currGuessRow = 0;
-			currLetter = 0;
-			initializeWordleBoard();
-			if (darkModeOn) {
-				darkMode();
-			} else {
-				lightMode();
-			}
-			letterCurrentStyle(tileNodes[currGuessRow][currLetter]);
-			enter.requestFocus();
-		});
+		// Same as a new game but with today's word, the same for every player
+		dailyGame.setOnAction((e) -> startNewGame(true));
 
 		// Set leaderBoard menu item action
 		leaderBoard.setOnAction((e) -> {
@@ -257,9 +238,12 @@ public class WordleGUI extends Application {
 		});
 
 		stats.setOnAction((e) -> {
-			Stage stage = new Stage();
-			stage.initModality(Modality.APPLICATION_MODAL);
-			new StatisticsPane(stage, currentUserLoggedIn);
+			if (statisticsPane == null) {
+				Stage stage = new Stage();
+				stage.initModality(Modality.APPLICATION_MODAL);
+				statisticsPane = new StatisticsPane(stage);
+			}
+			statisticsPane.show(currentUserLoggedIn);
 			enter.requestFocus();
 		});
 
@@ -268,37 +252,137 @@ public class WordleGUI extends Application {
 			enter.requestFocus();
 		});
 
+		// Toggles sound effects on and off
+		mute.setOnAction((event) -> {
+			sounds.setMuted(!sounds.isMuted());
+			mute.setText(sounds.isMuted() ? "Unmute Sound" : "Mute Sound");
+			enter.requestFocus();
+		});
+
 		// Toggles Light and Dark Mode for Wordle Board
 		darkLightMode.setOnAction((event) -> {
-			if (darkModeOn) {
-				lightMode();
-				darkLightMode.setText("Dark Mode");
-				darkModeOn = false;
-			} else {
-				darkMode();
-				darkLightMode.setText("Light Mode");
-				darkModeOn = true;
-			}
+			long start = GuiTimings.start();
+			setTheme(!darkModeOn);
+			darkLightMode.setText(darkModeOn ? "Light Mode" : "Dark Mode");
+			// the restyle itself happens in the CSS pass of the next pulse
+			GuiTimings.recordWithNextLayout(container.getScene(), "Theme switches", start);
 			enter.requestFocus();
 		});
 	}
 
+	/**
+	 * Start a new game on the same board and the same Wordle game
+	 * 
+	 * @param daily, true for today's daily puzzle, false for a random word
+	 */
+	private void startNewGame(boolean daily) {
+		long start = GuiTimings.start();
+		long allocated = GuiTimings.allocatedBytes();
+
+		// Starts the next Wordle Game
+		if (daily) {
+			wordleGame.startDailyGame(LocalDate.now());
+		} else {
+			wordleGame.startGame();
+		}
+
+		// A flip still running would color the new board when it ends
+		if (guessFlip != null) {
+			guessFlip.stop();
+			guessFlip = null;
+		}
+
+		// Clears and enables the Board and Keyboard and resets counters; a guess
+		// still in flight comes back stale and is dropped
+		disableBoardAndKeyBoard = false;
+		guessInFlight = false;
+		currGuessRow = 0;
+		currLetter = 0;
+		board.reset();
+		revealedKeys.reset();
+		letterCurrentStyle(board.getTile(currGuessRow, currLetter));
+		enter.requestFocus();
+
+		GuiTimings.recordWithAllocation("New games", start, allocated);
+	}
+
+	/**
+	 * Show a guess made by the guess pipeline, called on the FX thread in the
+	 * order the guesses were submitted
+	 * 
+	 * @param result, what happened to the guess
+	 */
+	private void showGuess(GuessPipeline.Result result) {
+		// a new game started while the guess was made; a guess of the new game
+		// may be in flight already
+		if (result.isStale() || result.getGameNumber() != wordleGame.getGameNumber()) {
+			return;
+		}
+		long start = GuiTimings.start();
+		guessInFlight = false;
+
+		if (!result.isValid()) {
+			// Guess isn't in the dictionary
+			shake();
+		} else if (result.isWon()) {
+			// if the game is won, trigger the animation, win panel and disable the keyboard
+			flipRow(result.getPattern());
+			disableBoardAndKeyBoard = true;
+			board.getGrid().setDisable(true);
+			board.getKeyboard().setDisable(true);
+			winSound();
+		} else if (result.isGameOver()) {
+			// if the game is lost, trigger the animation, lose panel and disable the
+			// keyboard
+			flipRow(result.getPattern());
+			disableBoardAndKeyBoard = true;
+			board.getGrid().setDisable(true);
+			board.getKeyboard().setDisable(true);
+			loseSound();
+		} else {
+			// increment guess level and reset current letter position
+			validSoundEffect();
+			flipRow(result.getPattern());
+			currGuessRow++;
+			currLetter = 0;
+			letterCurrentStyle(board.getTile(currGuessRow, currLetter));
+		}
+		GuiTimings.record("Guesses shown", start);
+
+		// the result pop-up waits for the player, so it is shown after the timing
+		if (result.isWon()) {
+			alertPopUpWin();
+		} else if (result.isGameOver()) {
+			alertPopUpLost();
+		}
+	}
+
 	/***
 	 * This is the alert that will show when the wordle game is won
 	 */
 	private void alertPopUpWin() {
-		Stage stage = new Stage();
-		stage.centerOnScreen();
-		resultPane = new ResultPane(stage, currentUserLoggedIn, true, wordleGame.wordCorrectionChecker.getWord());
+		getResultPane().show(currentUserLoggedIn, true, wordleGame.getWord());
 	}
 
 	/***
 	 * This is the alert that will show when the wordle game is lost
 	 */
 	private void alertPopUpLost() {
-		Stage stage = new Stage();
-		stage.centerOnScreen();
-		resultPane = new ResultPane(stage, currentUserLoggedIn, false, wordleGame.wordCorrectionChecker.getWord());
+		getResultPane().show(currentUserLoggedIn, false, wordleGame.getWord());
+	}
+
+	/***
+	 * Helper method to build the result pop-up the first time a game ends
+	 * 
+	 * @return ResultPane, the one result pop-up
+	 */
+	private ResultPane getResultPane() {
+		if (resultPane == null) {
+			Stage stage = new Stage();
+			stage.centerOnScreen();
+			resultPane = new ResultPane(stage);
+		}
+		return resultPane;
 	}
 
 	/**
@@ -308,14 +392,16 @@ public class WordleGUI extends Application {
 	 * @return String, the string for the guess input
 	 */
 	private String getGuessInput(int guessRow) {
-		String result = "";
-		for (Label tile : tileNodes[guessRow]) {
-			result += tile.getText();
-		}
-		if (result.length() == 5) {
-			return result;
+		char[] letters = new char[GameBoard.COLUMNS];
+		Label[] tiles = board.getRow(guessRow);
+		for (int i = 0; i < letters.length; i++) {
+			String text = tiles[i].getText();
+			if (text.isEmpty()) {
+				return null;
+			}
+			letters[i] = text.charAt(0);
 		}
-		return null;
+		return new String(letters);
 	}
 
 	/**
@@ -345,32 +431,17 @@ public class WordleGUI extends Application {
 	 * Registers virtual keystrokes and updates wordle board
 	 */
 	private void registerVirtualKeyboardInputs() {
-		for (Node letter : topRow.getChildren()) {
-			Button button = (Button) letter;
-			button.setOnMouseClicked((e) -> {
-				updateBoardWithLetter(button.getText());
-			});
-		}
-
-		for (Node letter : midRow.getChildren()) {
-			Button button = (Button) letter;
+		for (Button button : board.getLetterKeys()) {
 			button.setOnMouseClicked((e) -> {
 				updateBoardWithLetter(button.getText());
 			});
 		}
 
-		for (Node letter : bottomRow.getChildren()) {
-			Button button = (Button) letter;
-			button.setOnMouseClicked((e) -> {
-				if (button.getText().equals("ENTER")) {
-					KeyEvent keyEvent = new KeyEvent(KeyEvent.KEY_PRESSED, null, null, KeyCode.ENTER, false, false,
-							false, false);
-					enter.fireEvent(keyEvent);
-				} else if (!button.getText().equals("DELETE")) {
-					updateBoardWithLetter(button.getText());
-				}
-			});
-		}
+		enter.setOnMouseClicked((e) -> {
+			KeyEvent keyEvent = new KeyEvent(KeyEvent.KEY_PRESSED, null, null, KeyCode.ENTER, false, false, false,
+					false);
+			enter.fireEvent(keyEvent);
+		});
 	}
 
 	/**
@@ -379,18 +450,18 @@ public class WordleGUI extends Application {
 	 * @param letter, the String letter
 	 */
 	private void updateBoardWithLetter(String letter) {
-		if (disableBoardAndKeyBoard) {
+		if (disableBoardAndKeyBoard || guessInFlight) {
 			return;
 		}
 		if (currLetter < 5) {
 			typingSoundEffect();
-			tileNodes[currGuessRow][currLetter].setText(letter);
-			letterInputStyle(tileNodes[currGuessRow][currLetter]);
-			tileAnimation(tileNodes[currGuessRow][currLetter]);
+			board.getTile(currGuessRow, currLetter).setText(letter);
+			letterInputStyle(board.getTile(currGuessRow, currLetter));
+			tileAnimation(board.getTile(currGuessRow, currLetter));
 
 			currLetter++;
 			if (currLetter < 5) {
-				letterCurrentStyle(tileNodes[currGuessRow][currLetter]);
+				letterCurrentStyle(board.getTile(currGuessRow, currLetter));
 			}
 		}
 	}
@@ -399,17 +470,17 @@ public class WordleGUI extends Application {
 	 * Deletes letter from Wordle Board
 	 */
 	private void deleteBoardWithLetter() {
-		if (disableBoardAndKeyBoard) {
+		if (disableBoardAndKeyBoard || guessInFlight) {
 			return;
 		}
 		if (currLetter == 0) {
 			return;
 		}
 		deleteSoundEffect();
-		tileNodes[currGuessRow][currLetter - 1].setText("");
+		board.getTile(currGuessRow, currLetter - 1).setText("");
 		if (currLetter < 5)
-			letterDeleteStyle(tileNodes[currGuessRow][currLetter]);
-		letterCurrentStyle(tileNodes[currGuessRow][currLetter - 1]);
+			letterDeleteStyle(board.getTile(currGuessRow, currLetter));
+		letterCurrentStyle(board.getTile(currGuessRow, currLetter - 1));
 		currLetter--;
 	}
 
@@ -419,24 +490,12 @@ public class WordleGUI extends Application {
 	 * @param tile, the Label for letter input style
 	 */
 	private void letterInputStyle(Label tile) {
-		if (darkModeOn) {
-			tile.setStyle("-fx-border-color: #848884;" + "-fx-border-width: 2.5;" + "-fx-background-color: #111111;"
-					+ "-fx-text-fill: white;");
-		} else {
-			tile.setStyle("-fx-border-color: #848884;" + "-fx-border-width: 2.5;" + "-fx-background-color: #FAFAFA;"
-					+ "-fx-text-fill: black;");
-		}
+		Theme.setState(tile, Theme.FILLED);
 	}
 
 	// Changes border color to show which tile the user will next input into
 	private void letterCurrentStyle(Label tile) {
-		if (darkModeOn) {
-			tile.setStyle("-fx-border-color: #9da39d;" + "-fx-border-width: 2.5;" + "-fx-background-color: #111111;"
-					+ "-fx-text-fill: white;");
-		} else {
-			tile.setStyle("-fx-border-color: #9da39d;" + "-fx-border-width: 2.5;" + "-fx-background-color: #FAFAFA;"
-					+ "-fx-text-fill: black;");
-		}
+		Theme.setState(tile, Theme.CURRENT);
 	}
 
 	/**
@@ -445,13 +504,7 @@ public class WordleGUI extends Application {
 	 * @param tile, the label for the operation
 	 */
 	private void letterDeleteStyle(Label tile) {
-		if (darkModeOn) {
-			tile.setStyle("-fx-border-color: #787c7f;" + "-fx-border-width: 1.5;" + "-fx-background-color: #111111;"
-					+ "-fx-text-fill: white;");
-		} else {
-			tile.setStyle("-fx-border-color: #787c7f;" + "-fx-border-width: 1.5;" + "-fx-background-color: #FAFAFA;"
-					+ "-fx-text-fill: black;");
-		}
+		Theme.setState(tile, null);
 	}
 
 	/**
@@ -473,7 +526,7 @@ public class WordleGUI extends Application {
 	 */
 	private void initializeHeader() {
 		title.setFont(new Font("Comic Sans MS", 45));
-		title.setStyle("-fx-text-fill: white;");
+		title.getStyleClass().add(Theme.TITLE_CLASS);
 
 		initializeMenu();
 
@@ -493,14 +546,7 @@ public class WordleGUI extends Application {
 	 * Setup the Menu that has Login, Dark Mode, Stats
 	 */
 	private void initializeMenu() {
-		FileInputStream input = null;
-		try {
-			input = new FileInputStream("src/resources/test.png");
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		}
-		Image image = new Image(input);
-		ImageView imageView = new ImageView(image);
+		ImageView imageView = new ImageView(AssetCache.image("test.png"));
 		imageView.setFitHeight(60);
 		imageView.setFitWidth(60);
 		menu.setGraphic(imageView);
@@ -508,141 +554,24 @@ public class WordleGUI extends Application {
 
 		menu.getItems().add(login);
 		menu.getItems().add(newGame);
+		menu.getItems().add(dailyGame);
 		menu.getItems().add(darkLightMode);
 		menu.getItems().add(leaderBoard);
 		menu.getItems().add(stats);
+		menu.getItems().add(mute);
 		stats.setVisible(false);
 	}
 
 	/**
-	 * Initializes the Board by creating new Empty Labels with appropriate
-	 */
-	private void initializeWordleBoard() {
-		// Loops through and creates a new Label for the Board
-		for (int col = 0; col < 5; col++) {
-			for (int row = 0; row < 6; row++) {
-				Label box = new Label();
-				box.setFont(Font.font("Lucida Console", FontWeight.EXTRA_BOLD, 60));
-				box.setAlignment(Pos.CENTER);
-				box.setMinSize(75, 75);
-				tileNodes[row][col] = box;
-				buttonContainer.add(box, col, row);
-			}
-		}
-		// Formatting the GridPane to have all buttons aligned nicely
-		buttonContainer.setAlignment(Pos.TOP_CENTER);
-		buttonContainer.setHgap(8);
-		buttonContainer.setVgap(10);
-		buttonContainer.setPadding(new Insets(30, 10, 10, 10));
-		container.setCenter(buttonContainer);
-	}
-
-	/**
-	 * Constructs onscreen keyboard
-	 */
-	private void initializeKeyboard() {
-		char[] top = "qwertyuiop".toCharArray();
-		char[] mid = "asdfghjkl".toCharArray();
-		char[] bot = "zxcvbnm".toCharArray();
-
-		fillKeyboardRow(topRow, top);
-		fillKeyboardRow(midRow, mid);
-
-		bottomRow.getChildren().add(enter);
-		fillKeyboardRow(bottomRow, bot);
-		bottomRow.getChildren().add(delete);
-
-		// Sets alignment for each keyboard row
-		topRow.setAlignment(Pos.TOP_CENTER);
-		midRow.setAlignment(Pos.TOP_CENTER);
-		bottomRow.setAlignment(Pos.TOP_CENTER);
-
-		enter.setMinSize(68, 52);
-		delete.setMinSize(68, 52);
-		enter.setFont(Font.font("Lucida Console", FontWeight.BOLD, 20));
-		delete.setFont(Font.font("Lucida Console", FontWeight.BOLD, 20));
-
-		keyboardContainer.getChildren().addAll(topRow, midRow, bottomRow);
-		keyboardContainer.setPadding(new Insets(20, 10, 100, 10));
-		container.setBottom(keyboardContainer);
-	}
-
-	/**
-	 * Fill keyboard row
+	 * Set dark or light mode for Wordle GUI. Only the root pane changes; the
+	 * stylesheet colors everything under it, and the tiles and keys keep
+	 * their state.
 	 * 
-	 * @param box,     the HBox for the fill
-	 * @param letters, the character array containing the letters
-	 */
-	private void fillKeyboardRow(HBox box, char[] letters) {
-		for (char letter : letters) {
-			String let = String.valueOf(letter).toUpperCase();
-			Button button = new Button(let);
-
-			button.setMinSize(40, 50);
-			button.setFont(Font.font("Lucida Console", FontWeight.BOLD, 30));
-			button.setFocusTraversable(false);
-			box.getChildren().add(button);
-		}
-	}
-
-	/**
-	 * Set dark mode for Wordle GUI
+	 * @param darkMode, true for dark mode
 	 */
-	private void darkMode() {
-		container.setStyle("-fx-background-color: #111111;");
-		title.setStyle("-fx-text-fill: white;");
-
-		// Dark Mode for Wordle Board
-		for (int i = currGuessRow; i < 6; i++) {
-			for (int j = 0; j < 5; j++) {
-				tileNodes[i][j].setStyle("-fx-border-color: #787c7f;" + "-fx-border-width: 1.5;"
-						+ "-fx-background-color: #111111;" + "-fx-text-fill: white;");
-			}
-		}
-
-		for (Node button : topRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: white;");
-		}
-		for (Node button : midRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: white;");
-		}
-		for (Node button : bottomRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: white;");
-		}
-
-		enter.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: white;");
-		delete.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: white;");
-		darkModeOn = true;
-	}
-
-	/**
-	 * Set light mode for Wordle GUI
-	 */
-	private void lightMode() {
-		container.setStyle("-fx-background-color: #FAFAFA;");
-		title.setStyle("-fx-text-fill: black;");
-
-		// Light Mode for Wordle Board
-		for (int i = currGuessRow; i < 6; i++) {
-			for (int j = 0; j < 5; j++) {
-				tileNodes[i][j].setStyle("-fx-border-color: #787c7f;" + "-fx-border-width: 1.5;"
-						+ "-fx-background-color: #FAFAFA;" + "-fx-text-fill: black;");
-			}
-		}
-
-		for (Node button : topRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: black;");
-		}
-		for (Node button : midRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: black;");
-		}
-		for (Node button : bottomRow.getChildren()) {
-			button.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: black;");
-		}
-
-		enter.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: black;");
-		delete.setStyle("-fx-border-width: 1.5;" + "-fx-background-color: #949494;" + "-fx-text-fill: black;");
-		darkModeOn = false;
+	private void setTheme(boolean darkMode) {
+		Theme.apply(container, darkMode);
+		darkModeOn = darkMode;
 	}
 
 	/**
@@ -669,22 +598,23 @@ public class WordleGUI extends Application {
 	/**
 	 * Flip row
 	 * 
-	 * @param status, the integer array
+	 * @param pattern, the guess pattern from Wordle.makeGuessPacked
 	 */
-	private void flipRow(int[] status) {
+	private void flipRow(int pattern) {
 		// Disables Keyboard so user cant type until animation finished
 		disableBoardAndKeyBoard = true;
-		RotateTransition rotate = setFlipAnimation(tileNodes[currGuessRow][0], status[0]);
+		RotateTransition rotate = setFlipAnimation(board.getTile(currGuessRow, 0), Feedback.statusAt(pattern, 0));
 
-		RotateTransition rotate2 = setFlipAnimation(tileNodes[currGuessRow][1], status[1]);
+		RotateTransition rotate2 = setFlipAnimation(board.getTile(currGuessRow, 1), Feedback.statusAt(pattern, 1));
 
-		RotateTransition rotate3 = setFlipAnimation(tileNodes[currGuessRow][2], status[2]);
+		RotateTransition rotate3 = setFlipAnimation(board.getTile(currGuessRow, 2), Feedback.statusAt(pattern, 2));
 
-		RotateTransition rotate4 = setFlipAnimation(tileNodes[currGuessRow][3], status[3]);
+		RotateTransition rotate4 = setFlipAnimation(board.getTile(currGuessRow, 3), Feedback.statusAt(pattern, 3));
 
-		RotateTransition rotate5 = setFlipAnimation(tileNodes[currGuessRow][4], status[4]);
+		RotateTransition rotate5 = setFlipAnimation(board.getTile(currGuessRow, 4), Feedback.statusAt(pattern, 4));
 
 		SequentialTransition sq = new SequentialTransition(rotate, rotate2, rotate3, rotate4, rotate5);
+		guessFlip = sq;
 		sq.play();
 		// Enables Keyboard Again
 		sq.setOnFinished(e -> {
@@ -726,41 +656,22 @@ public class WordleGUI extends Application {
 	 * @param num,  the integer representing the background color
 	 */
 	private void setStyleForGuess(Node tile, int num) {
-		if (num == -1) {
-			tile.setStyle("-fx-background-color: #4f4f4f; -fx-text-fill: white; -fx-font-weight: bold;");
-		} else if (num == 0) {
-			tile.setStyle("-fx-background-color: #c8b653; -fx-text-fill: white; -fx-font-weight: bold;");
-		} else if (num == 1) {
-			tile.setStyle("-fx-background-color: #6ca965; -fx-text-fill: white; -fx-font-weight: bold;");
+		if (Theme.forStatus(num) != null) {
+			Theme.setState(tile, Theme.forStatus(num));
 		}
 	}
 
 	/**
-	 * Set keyboard letter style
+	 * Set keyboard letter style. A key only changes to a better color, so a
+	 * green key stays green.
 	 * 
 	 * @param type, the character type
 	 * @param num,  the integer representing background color to display
 	 */
 	private void setKeyboardLetterStyle(char type, int num) {
-		List<HBox> keyboards = Arrays.asList(topRow, midRow, bottomRow);
-		for (HBox keyboardRow : keyboards) {
-			for (Node button : keyboardRow.getChildren()) {
-				if (button instanceof Button) {
-					if (((Button) button).getText().charAt(0) == type) {
-						if (num == -1) {
-							button.setStyle(
-									"-fx-background-color: #4f4f4f; -fx-text-fill: white; -fx-font-weight: bold;");
-						} else if (num == 0) {
-							button.setStyle(
-									"-fx-background-color: #c8b653; -fx-text-fill: white; -fx-font-weight: bold;");
-						} else if (num == 1) {
-							button.setStyle(
-									"-fx-background-color: #6ca965; -fx-text-fill: white; -fx-font-weight: bold;");
-						}
-						return;
-					}
-				}
-			}
+		int letter = Character.toLowerCase(type) - 'a';
+		if (letter >= 0 && letter < 26 && Theme.forStatus(num) != null) {
+			revealedKeys.update(letter, num + 1);
 		}
 	}
 
@@ -769,11 +680,11 @@ public class WordleGUI extends Application {
 	 */
 	private void shake() {
 		wrongSound();
-		shakeTile(tileNodes[currGuessRow][0]);
-		shakeTile(tileNodes[currGuessRow][1]);
-		shakeTile(tileNodes[currGuessRow][2]);
-		shakeTile(tileNodes[currGuessRow][3]);
-		shakeTile(tileNodes[currGuessRow][4]);
+		shakeTile(board.getTile(currGuessRow, 0));
+		shakeTile(board.getTile(currGuessRow, 1));
+		shakeTile(board.getTile(currGuessRow, 2));
+		shakeTile(board.getTile(currGuessRow, 3));
+		shakeTile(board.getTile(currGuessRow, 4));
 	}
 
 	/**
@@ -800,84 +711,26 @@ public class WordleGUI extends Application {
 	}
 	
 	private void winSound() {
-		String path = "src/resources/win.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.play();
+		sounds.play(Sound.WIN);
 	}
 
 	private void loseSound() {
-		String path = "src/resources/lose.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.play();
+		sounds.play(Sound.LOSE);
 	}
 
 	private void typingSoundEffect() {
-		String path = "src/resources/punch.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.setRate(1.06);
-		mediaPlayer.play();
+		sounds.play(Sound.TYPE);
 	}
 
 	private void validSoundEffect() {
-		String path = "src/resources/valid.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.setRate(1.12);
-		mediaPlayer.play();
+		sounds.play(Sound.VALID);
 	}
 
 	private void deleteSoundEffect() {
-		String path = "src/resources/woosh.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.setRate(1.15);
-		mediaPlayer.play();
+		sounds.play(Sound.DELETE);
 	}
 
 	private void wrongSound() {
-		String path = "src/resources/wrong.mp3";
-
-		// Need a File and URI object so the path works on all OSs
-		File file = new File(path);
-		URI uri = file.toURI();
-
-		// Play one mp3 and and have code run when the song ends
-		Media media = new Media(uri.toString());
-		MediaPlayer mediaPlayer = new MediaPlayer(media);
-		mediaPlayer.setRate(1.15);
-		mediaPlayer.play();
+		sounds.play(Sound.WRONG);
 	}
 }
\ No newline at end of file